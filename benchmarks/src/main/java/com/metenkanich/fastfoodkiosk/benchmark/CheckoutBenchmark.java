@@ -0,0 +1,71 @@
+package com.metenkanich.fastfoodkiosk.benchmark;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
+import com.metenkanich.fastfoodkiosk.presentation.validation.CartValidator;
+import com.metenkanich.fastfoodkiosk.presentation.validation.OrderValidator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Послідовність запису з CartController.placeOrder: валідація рядків кошика та
+ * замовлення, потім оформлення через CheckoutRepository. Варіант з кількома потоками
+ * імітує кілька кіосків одночасно і показує ефект групової фіксації.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CheckoutBenchmark {
+
+  private static final int LINES_PER_ORDER = 3;
+
+  @Benchmark
+  public Order placeOrder(KioskDatabase database) {
+    return placeOrderFor(database);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Order placeOrderConcurrentKiosks(KioskDatabase database) {
+    return placeOrderFor(database);
+  }
+
+  private Order placeOrderFor(KioskDatabase database) {
+    UUID userId = database.randomUserId();
+    List<Cart> cartItems = new ArrayList<>(LINES_PER_ORDER);
+    for (int i = 0; i < LINES_PER_ORDER; i++) {
+      cartItems.add(new Cart(UUID.randomUUID(), userId, database.randomMenuItemId(), 1, 9_900, false));
+    }
+
+    for (Cart cartItem : cartItems) {
+      if (!CartValidator.isCartValid(cartItem, true, database.cartRepository).isValid()) {
+        throw new IllegalStateException("Invalid cart line " + cartItem);
+      }
+    }
+    long totalPrice = 0;
+    for (Cart cartItem : cartItems) {
+      totalPrice = Math.addExact(totalPrice, cartItem.subtotal());
+    }
+    Order order = new Order(null, userId, totalPrice, OrderStatus.PENDING, LocalDateTime.now());
+    if (!OrderValidator.isOrderValid(order, false).isValid()) {
+      throw new IllegalStateException("Invalid order " + order);
+    }
+
+    return database.checkoutRepository.placeOrder(order, cartItems, PaymentMethod.CARD);
+  }
+}
@@ -0,0 +1,250 @@
+package com.metenkanich.fastfoodkiosk.benchmark;
+
+import com.metenkanich.fastfoodkiosk.domain.security.PasswordHashing;
+import com.metenkanich.fastfoodkiosk.persistence.connection.SchemaMigrator;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
+import com.metenkanich.fastfoodkiosk.persistence.repository.EpochMillis;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Генератор SQLite-бази для бенчмарків. Створює схему з ddl.sql застосунку та
+ * детерміновано заповнює її: orders замовлень по три рядки кошика, платежі, OrderLines,
+ * а також незамовлені рядки кошика для кожного користувача.
+ * Згенеровані файли кешуються в target/fixtures і перевикористовуються між запусками.
+ */
+public class Fixture {
+
+  static final int CATEGORY_COUNT = 8;
+  static final int MENU_ITEM_COUNT = 200;
+  static final int LINES_PER_ORDER = 3;
+  static final int UNORDERED_LINES_PER_USER = 2;
+
+  private static final Path FIXTURE_DIRECTORY = Path.of("target", "fixtures");
+  private static final int BATCH_SIZE = 10_000;
+
+  private Fixture() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    for (String orders : args) {
+      System.out.println("Fixture: " + prepare(Integer.parseInt(orders)));
+    }
+  }
+
+  // Шлях до кешованої бази на orders замовлень; генерує її за потреби.
+  // Версія схеми входить в ім'я файлу, щоб після нової міграції не взяти старий кеш
+  public static synchronized Path prepare(int orders) throws IOException, SQLException {
+    String name = "kiosk-" + orders + "-v" + SchemaMigrator.latestVersion();
+    Path fixture = FIXTURE_DIRECTORY.resolve(name + ".sqlite");
+    if (Files.exists(fixture)) {
+      return fixture;
+    }
+    Files.createDirectories(FIXTURE_DIRECTORY);
+    Path temporary = FIXTURE_DIRECTORY.resolve(name + ".sqlite.tmp");
+    Files.deleteIfExists(temporary);
+    generate(temporary, orders);
+    Files.move(temporary, fixture, StandardCopyOption.ATOMIC_MOVE);
+    return fixture;
+  }
+
+  // Робоча копія для одного прогону, щоб записи не змінювали кешований файл
+  public static Path copyForTrial(int orders) throws IOException, SQLException {
+    Path copy = Files.createTempFile("kiosk-bench-", ".sqlite");
+    Files.copy(prepare(orders), copy, StandardCopyOption.REPLACE_EXISTING);
+    return copy;
+  }
+
+  public static void delete(Path database) throws IOException {
+    Files.deleteIfExists(database);
+    Files.deleteIfExists(Path.of(database + "-wal"));
+    Files.deleteIfExists(Path.of(database + "-shm"));
+  }
+
+  static int userCount(int orders) {
+    return Math.max(10, orders / 10);
+  }
+
+  static UUID userId(int index) {
+    return new UUID(0x1000_0000_0000_0000L, index);
+  }
+
+  static UUID categoryId(int index) {
+    return new UUID(0x2000_0000_0000_0000L, index);
+  }
+
+  static UUID menuItemId(int index) {
+    return new UUID(0x3000_0000_0000_0000L, index);
+  }
+
+  static UUID orderId(int index) {
+    return new UUID(0x4000_0000_0000_0000L, index);
+  }
+
+  private static void generate(Path database, int orders) throws IOException, SQLException {
+    Random random = new Random(42);
+    int users = userCount(orders);
+    LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+    PortionSize[] portionSizes = PortionSize.values();
+    OrderStatus[] statuses = OrderStatus.values();
+    PaymentMethod[] paymentMethods = PaymentMethod.values();
+
+    try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + database)) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("PRAGMA journal_mode = OFF");
+        statement.execute("PRAGMA synchronous = OFF");
+        for (String sql : readScript("/ddl.sql").split(";")) {
+          if (!sql.isBlank()) {
+            statement.execute(sql);
+          }
+        }
+      }
+      connection.setAutoCommit(false);
+
+      String password = PasswordHashing.getInstance().hashedPassword("password");
+      try (PreparedStatement insert = connection.prepareStatement(
+          "INSERT INTO Users (user_id, username, password, role, email, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+        for (int i = 0; i < users; i++) {
+          Uuids.set(insert, 1, userId(i));
+          insert.setString(2, "user" + i);
+          insert.setString(3, password);
+          insert.setString(4, i == 0 ? "ADMIN" : "USER");
+          insert.setString(5, "user" + i + "@kiosk.test");
+          EpochMillis.set(insert, 6, start);
+          addToBatch(insert, i);
+        }
+        insert.executeBatch();
+      }
+
+      try (PreparedStatement insert = connection.prepareStatement(
+          "INSERT INTO Categories (category_id, category_name, image_path) VALUES (?, ?, ?)")) {
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+          Uuids.set(insert, 1, categoryId(i));
+          insert.setString(2, "Category " + i);
+          insert.setString(3, null);
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+
+      long[] prices = new long[MENU_ITEM_COUNT];
+      try (PreparedStatement insert = connection.prepareStatement(
+          "INSERT INTO MenuItems (item_id, name, description, price, category_id, is_available, image_path, default_portion_size) "
+              + "VALUES (?, ?, ?, ?, ?, 1, NULL, ?)")) {
+        for (int i = 0; i < MENU_ITEM_COUNT; i++) {
+          prices[i] = (40 + random.nextInt(300)) * 100L;
+          Uuids.set(insert, 1, menuItemId(i));
+          insert.setString(2, "Dish " + i);
+          insert.setString(3, "Benchmark dish " + i);
+          insert.setLong(4, prices[i]);
+          Uuids.set(insert, 5, categoryId(i % CATEGORY_COUNT));
+          insert.setString(6, portionSizes[i % portionSizes.length].name());
+          insert.addBatch();
+        }
+        insert.executeBatch();
+      }
+
+      try (PreparedStatement insertOrder = connection.prepareStatement(
+              "INSERT INTO Orders (order_id, user_id, total_price, status, created_at) VALUES (?, ?, ?, ?, ?)");
+          PreparedStatement insertCart = connection.prepareStatement(
+              "INSERT INTO Cart (cart_id, user_id, item_id, quantity, subtotal, is_ordered) VALUES (?, ?, ?, ?, ?, ?)");
+          PreparedStatement insertPayment = connection.prepareStatement(
+              "INSERT INTO Payments (id, cart_id, payment_method, payment_status, created_at) VALUES (?, ?, ?, 'COMPLETED', ?)");
+          PreparedStatement insertOrderLine = connection.prepareStatement(
+              "INSERT INTO OrderLines (cart_id, order_id) VALUES (?, ?)")) {
+        for (int i = 0; i < orders; i++) {
+          UUID userId = userId(random.nextInt(users));
+          long createdAt = EpochMillis.toMillis(start.plusSeconds(i * 30L));
+          long total = 0;
+          for (int line = 0; line < LINES_PER_ORDER; line++) {
+            UUID cartId = new UUID(random.nextLong(), random.nextLong());
+            int item = random.nextInt(MENU_ITEM_COUNT);
+            int quantity = 1 + random.nextInt(3);
+            long subtotal = prices[item] * quantity;
+            total += subtotal;
+            bindCart(insertCart, cartId, userId, item, quantity, subtotal, true);
+            Uuids.set(insertPayment, 1, new UUID(random.nextLong(), random.nextLong()));
+            Uuids.set(insertPayment, 2, cartId);
+            insertPayment.setString(3, paymentMethods[random.nextInt(paymentMethods.length)].name());
+            insertPayment.setLong(4, createdAt);
+            insertPayment.addBatch();
+            Uuids.set(insertOrderLine, 1, cartId);
+            Uuids.set(insertOrderLine, 2, orderId(i));
+            insertOrderLine.addBatch();
+          }
+          Uuids.set(insertOrder, 1, orderId(i));
+          Uuids.set(insertOrder, 2, userId);
+          insertOrder.setLong(3, total);
+          insertOrder.setString(4, statuses[random.nextInt(statuses.length)].name());
+          insertOrder.setLong(5, createdAt);
+          insertOrder.addBatch();
+          if ((i + 1) % BATCH_SIZE == 0) {
+            executeBatches(insertOrder, insertCart, insertPayment, insertOrderLine);
+          }
+        }
+
+        for (int user = 0; user < users; user++) {
+          for (int line = 0; line < UNORDERED_LINES_PER_USER; line++) {
+            int item = random.nextInt(MENU_ITEM_COUNT);
+            bindCart(insertCart, new UUID(random.nextLong(), random.nextLong()),
+                userId(user), item, 1, prices[item], false);
+          }
+        }
+        executeBatches(insertOrder, insertCart, insertPayment, insertOrderLine);
+      }
+
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("ANALYZE");
+      }
+      connection.commit();
+    }
+  }
+
+  private static void bindCart(PreparedStatement insertCart, UUID cartId, UUID userId, int item,
+      int quantity, long subtotal, boolean ordered) throws SQLException {
+    Uuids.set(insertCart, 1, cartId);
+    Uuids.set(insertCart, 2, userId);
+    Uuids.set(insertCart, 3, menuItemId(item));
+    insertCart.setInt(4, quantity);
+    insertCart.setLong(5, subtotal);
+    insertCart.setBoolean(6, ordered);
+    insertCart.addBatch();
+  }
+
+  private static void addToBatch(PreparedStatement statement, int index) throws SQLException {
+    statement.addBatch();
+    if ((index + 1) % BATCH_SIZE == 0) {
+      statement.executeBatch();
+    }
+  }
+
+  private static void executeBatches(PreparedStatement... statements) throws SQLException {
+    for (PreparedStatement statement : statements) {
+      statement.executeBatch();
+    }
+  }
+
+  private static String readScript(String resource) throws IOException {
+    try (InputStream inputStream = Fixture.class.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new IOException("Resource " + resource + " not found");
+      }
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.metenkanich.fastfoodkiosk.benchmark;
+
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CheckoutRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.OrderRepositoryImpl;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Робоча копія згенерованої бази та репозиторії поверх пулів DatabaseConnection,
+ * налаштованих так само, як у застосунку (профіль database.properties).
+ * DatabaseConnection — синглтон, тому кожен прогін має виконуватися в окремому форку JVM.
+ */
+@State(Scope.Benchmark)
+public class KioskDatabase {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  public int orders;
+
+  public MenuItemRepositoryImpl menuItemRepository;
+  public CartRepositoryImpl cartRepository;
+  public OrderRepositoryImpl orderRepository;
+  public CheckoutRepositoryImpl checkoutRepository;
+
+  private Path database;
+  private DatabaseConnection databaseConnection;
+
+  @Setup(Level.Trial)
+  public void open() throws Exception {
+    database = Fixture.copyForTrial(orders);
+    System.setProperty("db.url", "jdbc:sqlite:" + database);
+    databaseConnection = DatabaseConnection.getInstance();
+    menuItemRepository = new MenuItemRepositoryImpl(
+        databaseConnection.getReadDataSource(), databaseConnection.getWriteDataSource());
+    cartRepository = new CartRepositoryImpl(
+        databaseConnection.getReadDataSource(), databaseConnection.getWriteDataSource());
+    orderRepository = new OrderRepositoryImpl(
+        databaseConnection.getReadDataSource(), databaseConnection.getWriteDataSource());
+    checkoutRepository = new CheckoutRepositoryImpl(databaseConnection.getWriteDataSource());
+  }
+
+  @TearDown(Level.Trial)
+  public void close() throws Exception {
+    databaseConnection.closePool();
+    Fixture.delete(database);
+  }
+
+  public UUID randomUserId() {
+    return Fixture.userId(ThreadLocalRandom.current().nextInt(Fixture.userCount(orders)));
+  }
+
+  public UUID randomCategoryId() {
+    return Fixture.categoryId(ThreadLocalRandom.current().nextInt(Fixture.CATEGORY_COUNT));
+  }
+
+  public UUID randomMenuItemId() {
+    return Fixture.menuItemId(ThreadLocalRandom.current().nextInt(Fixture.MENU_ITEM_COUNT));
+  }
+
+  public UUID randomOrderId() {
+    return Fixture.orderId(ThreadLocalRandom.current().nextInt(orders));
+  }
+}
@@ -0,0 +1,45 @@
+package com.metenkanich.fastfoodkiosk.benchmark;
+
+import com.metenkanich.fastfoodkiosk.domain.security.PasswordHashing;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Обчислення в пам'яті: ціна порції та хешування пароля під час входу
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class PricingBenchmark {
+
+  @Param({"SMALL", "MEDIUM", "LARGE", "EXTRA_LARGE"})
+  public PortionSize portionSize;
+
+  private final MenuItem menuItem = new MenuItem(UUID.randomUUID(), "Бургер", "Опис",
+      14_990, UUID.randomUUID(), true, null, PortionSize.MEDIUM);
+  private final PasswordHashing passwordHashing = PasswordHashing.getInstance();
+  private final String password = "kiosk-password-123";
+
+  @Benchmark
+  public long menuItemGetPriceForSize() {
+    return menuItem.getPriceForSize(portionSize);
+  }
+
+  @Benchmark
+  public String passwordHashing() {
+    return passwordHashing.hashedPassword(password);
+  }
+}
@@ -0,0 +1,61 @@
+package com.metenkanich.fastfoodkiosk.benchmark;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderFilter;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderPage;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderSort;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Запити на читання, якими користуються екрани меню, кошика та замовлень
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class RepositoryBenchmark {
+
+  @Benchmark
+  public List<MenuItem> menuItemFindAll(KioskDatabase database) {
+    return database.menuItemRepository.findAll();
+  }
+
+  @Benchmark
+  public List<MenuItem> menuItemFindByCategory(KioskDatabase database) {
+    return database.menuItemRepository.findByCategory(database.randomCategoryId());
+  }
+
+  @Benchmark
+  public List<Cart> cartFindUnorderedByUserId(KioskDatabase database) {
+    return database.cartRepository.findUnorderedByUserId(database.randomUserId());
+  }
+
+  // Повна вибірка росте разом із кількістю замовлень, тому міряємо одиночний виклик
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10)
+  public List<Order> orderFindAll(KioskDatabase database) {
+    return database.orderRepository.findAll();
+  }
+
+  @Benchmark
+  public OrderPage orderFindFirstPage(KioskDatabase database) {
+    return database.orderRepository.findPage(OrderFilter.all(), OrderSort.CREATED_AT_DESC, null, 100);
+  }
+
+  @Benchmark
+  public List<UUID> orderFindCartIdsByOrderId(KioskDatabase database) {
+    return database.orderRepository.findCartIdsByOrderId(database.randomOrderId());
+  }
+}
@@ -0,0 +1,164 @@
+package com.metenkanich.fastfoodkiosk;
+
+import com.metenkanich.fastfoodkiosk.loadtest.BusyCountingDataSource;
+import com.metenkanich.fastfoodkiosk.loadtest.LatencyRecorder;
+import com.metenkanich.fastfoodkiosk.loadtest.LoadContext;
+import com.metenkanich.fastfoodkiosk.loadtest.LoadProfile;
+import com.metenkanich.fastfoodkiosk.loadtest.Operation;
+import com.metenkanich.fastfoodkiosk.loadtest.VirtualAdmin;
+import com.metenkanich.fastfoodkiosk.loadtest.VirtualBoard;
+import com.metenkanich.fastfoodkiosk.loadtest.VirtualCustomer;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DataAccessExecutor;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.connection.WriteQueue;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
+import com.metenkanich.fastfoodkiosk.persistence.entity.User;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.Role;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CategoryRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CheckoutRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.OrderRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderFilter;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderSort;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Генератор навантаження без інтерфейсу: віртуальні кіоски та адміністратори працюють
+ * з тими самими репозиторіями, що й застосунок, над однією базою даних.
+ * Наприкінці друкує пропускну здатність, p50/p99/p99.9 для кожної операції та
+ * кількість помилок SQLITE_BUSY. Кілька процесів над одним файлом бази імітують
+ * окремі кіоски-комп'ютери. Параметр --executor порівнює виконання запитів прямо в потоках
+ * учасників з DataAccessExecutor на потоках ОС або на віртуальних потоках.
+ */
+public class LoadDriver {
+
+  private static final int SEED_ORDER_COUNT = 1024;
+
+  public static void main(String[] args) throws InterruptedException {
+    LoadProfile profile;
+    try {
+      profile = LoadProfile.parse(args);
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.println(LoadProfile.USAGE);
+      System.exit(2);
+      return;
+    }
+    if (profile.getDatabase() != null) {
+      System.setProperty("db.url", "jdbc:sqlite:" + profile.getDatabase());
+    }
+    boolean direct = profile.getExecution() == LoadProfile.Execution.DIRECT;
+    if (!direct) {
+      System.setProperty("db.access.mode", profile.getExecution().name().toLowerCase());
+    }
+
+    DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+    BusyCountingDataSource readDataSource = new BusyCountingDataSource(databaseConnection.getReadDataSource());
+    BusyCountingDataSource writeDataSource = new BusyCountingDataSource(databaseConnection.getWriteDataSource());
+    // Усі записи йдуть через одну чергу над обгорткою, щоб рахувати й помилки під час COMMIT:
+    // черга, яку відкрив DatabaseConnection, зупиняється, параметри - з профілю
+    WriteQueue.stop(databaseConnection.getWriteDataSource());
+    WriteQueue.start(writeDataSource,
+        Integer.parseInt(databaseConnection.getProperty("db.write.maxBatchSize", "64")),
+        Long.parseLong(databaseConnection.getProperty("db.write.maxDelayMillis", "2")));
+
+    DataAccessExecutor executor = direct ? null : DataAccessExecutor.getInstance();
+    try {
+      LoadContext context = createContext(profile, readDataSource, writeDataSource);
+      context.setExecutor(executor);
+      System.out.println("Навантаження: " + profile);
+      if (executor != null) {
+        System.out.println("DataAccessExecutor: " + executor.getMode().name().toLowerCase()
+            + ", одночасних запитів до БД: " + executor.getMaxConcurrent());
+      }
+      long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(profile.getWarmupSeconds());
+      readDataSource.startMeasurement(measureFrom);
+      writeDataSource.startMeasurement(measureFrom);
+      run(context, profile, measureFrom);
+      printReport(context.getRecorder(), profile, readDataSource.getBusyCount() + writeDataSource.getBusyCount());
+    } finally {
+      if (executor != null) {
+        executor.shutdown();
+      }
+      WriteQueue.stop(writeDataSource);
+      databaseConnection.closePool();
+    }
+  }
+
+  private static LoadContext createContext(LoadProfile profile, BusyCountingDataSource readDataSource,
+      BusyCountingDataSource writeDataSource) {
+    CategoryRepositoryImpl categoryRepository = new CategoryRepositoryImpl(readDataSource, writeDataSource);
+    OrderRepositoryImpl orderRepository = new OrderRepositoryImpl(readDataSource, writeDataSource);
+
+    List<User> users = new UserRepositoryImpl(readDataSource, writeDataSource).findAll();
+    List<User> customers = users.stream().filter(user -> user.role() == Role.USER).toList();
+    if (customers.isEmpty()) {
+      customers = users;
+    }
+    List<Category> categories = categoryRepository.findAll();
+    if (customers.isEmpty() || categories.isEmpty()) {
+      throw new IllegalStateException("У базі немає користувачів або категорій для навантаження");
+    }
+
+    LoadContext context = new LoadContext(profile, categoryRepository,
+        new MenuItemRepositoryImpl(readDataSource, writeDataSource),
+        orderRepository,
+        new CheckoutRepositoryImpl(writeDataSource),
+        customers, categories);
+    // Незавершені замовлення з бази, щоб адміністраторам було що обробляти з першої секунди
+    OrderFilter unfinished = OrderFilter.all().withStatuses(EnumSet.of(OrderStatus.PENDING,
+        OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.READY));
+    orderRepository.findPage(unfinished, OrderSort.CREATED_AT_DESC, null, SEED_ORDER_COUNT).orders()
+        .forEach(summary -> context.addRecentOrder(summary.order().orderId()));
+    return context;
+  }
+
+  private static void run(LoadContext context, LoadProfile profile, long measureFrom)
+      throws InterruptedException {
+    context.getRecorder().startMeasurement(measureFrom);
+    context.setEndNanos(measureFrom + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds()));
+
+    // З виконавцем учасники лише чекають на результат, тож їм досить віртуальних потоків
+    Thread.Builder builder = profile.getExecution() == LoadProfile.Execution.DIRECT
+        ? Thread.ofPlatform()
+        : Thread.ofVirtual();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < profile.getKiosks(); i++) {
+      threads.add(builder.name("kiosk-" + i).unstarted(new VirtualCustomer(context, i)));
+    }
+    for (int i = 0; i < profile.getAdmins(); i++) {
+      threads.add(builder.name("admin-" + i).unstarted(new VirtualAdmin(context, i)));
+    }
+    for (int i = 0; i < profile.getBoards(); i++) {
+      threads.add(builder.name("board-" + i).unstarted(new VirtualBoard(context, i)));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+
+  private static void printReport(LatencyRecorder recorder, LoadProfile profile, long busyCount) {
+    double seconds = profile.getDurationSeconds();
+    long totalCount = 0;
+    System.out.println();
+    System.out.printf("%-10s %9s %7s %9s %9s %9s %9s %9s%n",
+        "operation", "count", "errors", "ops/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (Operation operation : Operation.values()) {
+      LatencyRecorder.Summary summary = recorder.summarize(operation);
+      totalCount += summary.count();
+      System.out.printf("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+          operation.getKey(), summary.count(), summary.errors(), summary.count() / seconds,
+          summary.p50Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis());
+    }
+    System.out.printf("%nВсього операцій: %d (%.1f op/s), SQLITE_BUSY: %d, пік потоків ОС: %d%n",
+        totalCount, totalCount / seconds, busyCount,
+        ManagementFactory.getThreadMXBean().getPeakThreadCount());
+  }
+}
@@ -1,23 +1,29 @@
 package com.metenkanich.fastfoodkiosk;
 
 import atlantafx.base.theme.PrimerLight;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DataAccessExecutor;
 import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
 public class Main extends Application {
 
-  private static DatabaseConnection databaseConnection;
+  @Override
+  public void init() {
+    // Пули з'єднань, каталог, зображення й розмітка меню готуються, поки видно екран входу
+    StartupWarmup.start();
+  }
 
   @Override
   public void start(Stage primaryStage) throws Exception {
     Application.setUserAgentStylesheet(new PrimerLight().getUserAgentStylesheet());
-    primaryStage.getIcons().add(new Image(getClass().getResourceAsStream("/images/burger.png")));
+    ImageCache.getInstance().addStageIcon(primaryStage);
     FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/authorization.fxml"));
     Parent root = loader.load();
     primaryStage.initStyle(StageStyle.UNDECORATED);
@@ -31,21 +37,18 @@ public class Main extends Application {
   @Override
   public void stop() throws Exception {
     super.stop();
-    if (databaseConnection != null) {
-      databaseConnection.closePool();
-    }
+    // Спершу дочікуємося фонових звернень до БД, які ще виконуються
+    DataAccessExecutor.getInstance().shutdown();
+    SessionCart.getInstance().shutdown();
+    DatabaseConnection.getInstance().closePool();
   }
 
   public static void main(String[] args) {
     System.setProperty("file.encoding", "UTF-8");
-    // Ініціалізуємо DatabaseConnection на початку
-    databaseConnection = DatabaseConnection.getInstance();
     try {
       launch(args);
     } finally {
-      if (databaseConnection != null) {
-        databaseConnection.closePool();
-      }
+      DatabaseConnection.getInstance().closePool();
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,197 @@
+package com.metenkanich.fastfoodkiosk;
+
+import com.metenkanich.fastfoodkiosk.domain.service.MenuCatalog;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
+import com.metenkanich.fastfoodkiosk.domain.service.UserCache;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DataAccessExecutor;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javax.sql.DataSource;
+
+/**
+ * Прогрів застосунку, поки користувач бачить екран входу: пули з'єднань, запити,
+ * каталог меню, зображення та розмітка готуються у фоні, тож після входу меню
+ * відкривається без очікування. Етапи, що не залежать один від одного, виконуються
+ * паралельно; тривалість кожного друкується після завершення.
+ * Якщо вхід відбувся раніше, звернення до ще не готових сервісів просто дочекаються
+ * їх ініціалізації (getInstance() синхронізовані).
+ */
+public final class StartupWarmup {
+
+  // Запити, з яких починається робота: вхід, каталог меню, кошик - з тими ж колонками, що й у репозиторіях
+  private static final List<String> HOT_QUERIES = List.of(
+      "SELECT user_id, username, password, role, email, created_at FROM Users WHERE username = ?",
+      "SELECT category_id, category_name, image_path FROM Categories",
+      "SELECT m.item_id, m.name, m.description, m.price, m.category_id, m.is_available, m.image_path, "
+          + "m.default_portion_size FROM MenuItems m",
+      "SELECT c.cart_id, c.user_id, c.item_id, c.quantity, c.subtotal, c.is_ordered FROM Cart c "
+          + "WHERE c.user_id = ? AND c.is_ordered = FALSE");
+  // Розмітка, яку покупець бачить одразу після входу
+  // Лише картка страви: її контролер нічого не запитує в initialize(), а menu.fxml створив би
+  // MenuController, який запустив би запити й завантаження зображень заради відкинутого вузла
+  private static final String MENU_CARD_VIEW = "/view/menu_item_card.fxml";
+  // Перший екран показує лише кілька рядків; решту мініатюр кеш дочитає з диска під час прокрутки
+  private static final int PREFETCHED_MENU_ITEMS = 48;
+
+  private final long startNanos = System.nanoTime();
+  private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+  private final ExecutorService executor;
+
+  private StartupWarmup() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(2, runnable -> {
+      Thread thread = new Thread(runnable, "kiosk-warmup-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    CompletableFuture<Void> pool = stage("pool", () -> {
+      DatabaseConnection.getInstance();
+      DataAccessExecutor.getInstance();
+    });
+    CompletableFuture<Void> statements = pool.thenCompose(ignored -> stage("statements", this::prepareHotStatements));
+    CompletableFuture<Void> catalog = pool.thenCompose(ignored -> stage("catalog", () -> {
+      MenuCatalog.getInstance();
+      UserCache.getInstance();
+      SessionCart.getInstance();
+    }));
+    CompletableFuture<Void> images = catalog.thenCompose(ignored -> stage("images", this::prefetchImages));
+    CompletableFuture<Void> views = catalog.thenCompose(ignored -> fxStage("views", this::preloadViews));
+
+    CompletableFuture.allOf(statements, images, views)
+        .whenComplete((ignored, error) -> {
+          executor.shutdown();
+          report(error);
+        });
+  }
+
+  // Викликається з Application.init(), коли інструментарій JavaFX уже запущено
+  public static void start() {
+    new StartupWarmup();
+  }
+
+  // Тривалість завершених етапів у мілісекундах, у порядку завершення
+  private synchronized Map<String, Long> getStageMillis() {
+    return new LinkedHashMap<>(stageMillis);
+  }
+
+  private CompletableFuture<Void> stage(String name, Runnable work) {
+    return CompletableFuture.runAsync(() -> timed(name, work), executor);
+  }
+
+  // Етап, що створює вузли JavaFX, виконується в потоці JavaFX
+  private CompletableFuture<Void> fxStage(String name, Runnable work) {
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    Platform.runLater(() -> {
+      try {
+        timed(name, work);
+        result.complete(null);
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result;
+  }
+
+  private void timed(String name, Runnable work) {
+    long start = System.nanoTime();
+    try {
+      work.run();
+    } finally {
+      long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      synchronized (this) {
+        stageMillis.put(name, millis);
+      }
+    }
+  }
+
+  // SQLite розбирає схему окремо для кожного з'єднання під час першої підготовки запиту,
+  // тому готуємо гарячі запити на всіх з'єднаннях, які пул тримає відкритими
+  private void prepareHotStatements() {
+    DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+    DataSource readDataSource = databaseConnection.getReadDataSource();
+    int idleConnections = Integer.parseInt(databaseConnection.getProperty("db.pool.read.minimumIdle", "2"));
+    List<Connection> connections = new ArrayList<>();
+    try {
+      // Тримаємо всі з'єднання одночасно, щоб пул не віддав те саме з'єднання двічі
+      for (int i = 0; i < idleConnections; i++) {
+        connections.add(readDataSource.getConnection());
+      }
+      for (Connection connection : connections) {
+        for (String query : HOT_QUERIES) {
+          // Підготовка компілює запит і завантажує схему в з'єднання; сам запит не виконується
+          PreparedStatement statement = connection.prepareStatement(query);
+          statement.close();
+        }
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Не вдалося підготувати запити: " + e.getMessage(), e);
+    } finally {
+      for (Connection connection : connections) {
+        try {
+          connection.close();
+        } catch (SQLException e) {
+          System.err.println("Не вдалося повернути з'єднання в пул: " + e.getMessage());
+        }
+      }
+    }
+  }
+
+  // Декодує значки категорій і перші картки меню в тих розмірах, у яких їх покажуть
+  private void prefetchImages() {
+    MenuCatalog catalog = MenuCatalog.getInstance();
+    ImageCache imageCache = ImageCache.getInstance();
+    List<CompletableFuture<?>> loads = new ArrayList<>();
+    for (Category category : catalog.getCategoryRepository().findAll()) {
+      loads.add(imageCache.load(category.imagePath(), ImageCache.CATEGORY_FALLBACK,
+          ImageCache.CATEGORY_BUTTON_SIZE, ImageCache.CATEGORY_BUTTON_SIZE));
+    }
+    List<MenuItem> menuItems = catalog.getMenuItemRepository().findAll();
+    for (MenuItem menuItem : menuItems.subList(0, Math.min(PREFETCHED_MENU_ITEMS, menuItems.size()))) {
+      loads.add(imageCache.load(menuItem.imagePath(), ImageCache.MENU_ITEM_FALLBACK,
+          ImageCache.MENU_CARD_SIZE, ImageCache.MENU_CARD_SIZE));
+    }
+    CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).join();
+  }
+
+  // Перше завантаження FXML підтягує класи контролів і контролерів та кеші рефлексії FXMLLoader;
+  // створена картка відкидається
+  private void preloadViews() {
+    try {
+      new FXMLLoader(getClass().getResource(MENU_CARD_VIEW)).load();
+    } catch (IOException e) {
+      throw new IllegalStateException("Не вдалося завантажити " + MENU_CARD_VIEW + ": " + e.getMessage(), e);
+    }
+  }
+
+  private void report(Throwable error) {
+    StringJoiner stages = new StringJoiner(", ");
+    getStageMillis().forEach((name, millis) -> stages.add(name + " " + millis + " мс"));
+    long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    if (error == null) {
+      System.out.println("Прогрів завершено за " + totalMillis + " мс: " + stages);
+    } else {
+      Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+      System.err.println("Прогрів перервано через " + totalMillis + " мс (" + stages + "): " + cause.getMessage());
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.metenkanich.fastfoodkiosk.domain.money;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Грошові суми як long у копійках. Ціни, суми рядків кошика й замовлень зберігаються
+ * в колонках INTEGER і рахуються цілими числами, тож результат точний, а обчислення
+ * не створюють об'єктів. Коефіцієнти (розмір порції) задаються в базисних пунктах
+ * (1,3 = 13 000) і округлюються до копійки за правилом "половина вгору".
+ * Переповнення long не маскується: множення кидають ArithmeticException.
+ */
+public final class Money {
+
+  public static final int MULTIPLIER_SCALE = 10_000;
+
+  private static final int MINOR_UNITS = 100;
+  // Той самий роздільник, що й у String.format("%.2f"), яким суми показувались раніше
+  private static final char DECIMAL_SEPARATOR =
+      DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+
+  private Money() {
+  }
+
+  // Сума, помножена на коефіцієнт у базисних пунктах, з округленням до копійки
+  public static long applyMultiplier(long amount, int basisPoints) {
+    return Math.floorDiv(Math.multiplyExact(amount, basisPoints) + MULTIPLIER_SCALE / 2, MULTIPLIER_SCALE);
+  }
+
+  public static long times(long amount, int quantity) {
+    return Math.multiplyExact(amount, quantity);
+  }
+
+  /**
+   * Розбирає суму, введену в гривнях ("149.90" або "149,90"). Більше двох знаків після
+   * коми не округлюються мовчки, а вважаються помилкою введення.
+   */
+  public static long parse(String text) {
+    BigDecimal value = new BigDecimal(text.trim().replace(',', '.'));
+    try {
+      return value.movePointRight(2).longValueExact();
+    } catch (ArithmeticException e) {
+      throw new NumberFormatException("Сума " + text + " має більше двох знаків після коми");
+    }
+  }
+
+  public static BigDecimal toBigDecimal(long amount) {
+    return BigDecimal.valueOf(amount, 2);
+  }
+
+  // Сума в гривнях з двома знаками після коми, без символу валюти
+  public static String format(long amount) {
+    StringBuilder builder = new StringBuilder(24);
+    if (amount < 0) {
+      builder.append('-');
+    }
+    long units = Math.abs(amount / MINOR_UNITS);
+    int cents = (int) Math.abs(amount % MINOR_UNITS);
+    builder.append(units).append(DECIMAL_SEPARATOR);
+    if (cents < 10) {
+      builder.append('0');
+    }
+    return builder.append(cents).toString();
+  }
+}
@@ -0,0 +1,55 @@
+package com.metenkanich.fastfoodkiosk.domain.money;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
+import java.util.List;
+
+/**
+ * Ціни та готові підписи для кожної пари страва × розмір порції, обчислені один раз
+ * під час завантаження каталогу. Рядок страви - її позиція у списку, з якого побудовано
+ * таблицю; каталог видає його разом зі стравою (CatalogItem). Значення лежать у плоских
+ * масивах за індексом рядок * кількість розмірів + PortionSize.ordinal(), тож картка меню
+ * під час показу та зміни порції лише читає масив. Таблиця незмінна: після змін у каталозі
+ * створюється нова.
+ */
+public final class PortionPriceTable {
+
+  private static final PortionSize[] SIZES = PortionSize.values();
+  private static final String CURRENCY_SUFFIX = " грн";
+
+  private final long[] prices;
+  private final String[] labels;
+
+  private PortionPriceTable(long[] prices, String[] labels) {
+    this.prices = prices;
+    this.labels = labels;
+  }
+
+  public static PortionPriceTable of(List<MenuItem> menuItems) {
+    long[] prices = new long[menuItems.size() * SIZES.length];
+    String[] labels = new String[prices.length];
+    for (int row = 0; row < menuItems.size(); row++) {
+      MenuItem menuItem = menuItems.get(row);
+      for (PortionSize size : SIZES) {
+        int index = row * SIZES.length + size.ordinal();
+        prices[index] = menuItem.getPriceForSize(size);
+        labels[index] = format(prices[index]);
+      }
+    }
+    return new PortionPriceTable(prices, labels);
+  }
+
+  // Підпис ціни так, як його показує картка меню
+  private static String format(long amount) {
+    return Money.format(amount) + CURRENCY_SUFFIX;
+  }
+
+  // Ціна порції в копійках
+  public long price(int row, PortionSize size) {
+    return prices[row * SIZES.length + size.ordinal()];
+  }
+
+  public String label(int row, PortionSize size) {
+    return labels[row * SIZES.length + size.ordinal()];
+  }
+}
@@ -0,0 +1,22 @@
+package com.metenkanich.fastfoodkiosk.domain.service;
+
+import com.metenkanich.fastfoodkiosk.domain.money.PortionPriceTable;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
+
+/**
+ * Страва каталогу разом із таблицею цін знімка, з якого її взято, та своїм рядком у ній.
+ * Рядок визначається під час побудови знімка, тож картка меню читає ціну й підпис
+ * порції прямо з масиву таблиці.
+ */
+public record CatalogItem(MenuItem menuItem, PortionPriceTable priceTable, int priceRow) {
+
+  // Ціна порції в копійках
+  public long price(PortionSize size) {
+    return priceTable.price(priceRow, size);
+  }
+
+  public String priceLabel(PortionSize size) {
+    return priceTable.label(priceRow, size);
+  }
+}
@@ -0,0 +1,263 @@
+package com.metenkanich.fastfoodkiosk.domain.service;
+
+import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.domain.money.PortionPriceTable;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CategoryRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+/**
+ * Спільний для всього процесу каталог меню.
+ * Завантажує категорії та страви один раз, відповідає на запити з пам'яті
+ * та оновлює себе після кожного create/update/deleteById (write-through).
+ * Разом зі знімком перераховується таблиця цін порцій, а картки меню отримують страви
+ * вже з рядком цієї таблиці (getCatalogItems).
+ */
+public class MenuCatalog {
+
+  private static MenuCatalog instance;
+
+  private final MenuItemRepository menuItemStore;
+  private final CategoryRepository categoryStore;
+  private final MenuItemRepository menuItemRepository = new CatalogMenuItemRepository();
+  private final CategoryRepository categoryRepository = new CatalogCategoryRepository();
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+  private MenuCatalog(MenuItemRepository menuItemStore, CategoryRepository categoryStore) {
+    this.menuItemStore = menuItemStore;
+    this.categoryStore = categoryStore;
+    reload();
+  }
+
+  public static synchronized MenuCatalog getInstance() {
+    if (instance == null) {
+      DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+      DataSource readDataSource = databaseConnection.getReadDataSource();
+      DataSource writeDataSource = databaseConnection.getWriteDataSource();
+      instance = new MenuCatalog(
+          new MenuItemRepositoryImpl(readDataSource, writeDataSource),
+          new CategoryRepositoryImpl(readDataSource, writeDataSource));
+    }
+    return instance;
+  }
+
+  // Репозиторій страв, що читає з пам'яті та записує в БД через каталог
+  public MenuItemRepository getMenuItemRepository() {
+    return menuItemRepository;
+  }
+
+  // Репозиторій категорій, що читає з пам'яті та записує в БД через каталог
+  public CategoryRepository getCategoryRepository() {
+    return categoryRepository;
+  }
+
+  // Страви для карток меню (усі або однієї категорії, якщо categoryId не null) з рядками таблиці цін
+  public List<CatalogItem> getCatalogItems(UUID categoryId) {
+    Snapshot current = snapshot;
+    return categoryId == null
+        ? current.catalogItems()
+        : current.catalogItemsByCategory().getOrDefault(categoryId, List.of());
+  }
+
+  // Повне перезавантаження каталогу з бази даних
+  public synchronized void reload() {
+    snapshot = Snapshot.of(menuItemStore.findAll(), categoryStore.findAll());
+  }
+
+  private synchronized void putMenuItem(MenuItem menuItem) {
+    Map<UUID, MenuItem> items = new LinkedHashMap<>(snapshot.menuItemsById());
+    items.put(menuItem.itemId(), menuItem);
+    snapshot = Snapshot.of(items.values(), snapshot.categories());
+  }
+
+  private synchronized void removeMenuItem(UUID itemId) {
+    Map<UUID, MenuItem> items = new LinkedHashMap<>(snapshot.menuItemsById());
+    items.remove(itemId);
+    snapshot = Snapshot.of(items.values(), snapshot.categories());
+  }
+
+  private synchronized void putCategory(Category category) {
+    Map<UUID, Category> categories = new LinkedHashMap<>(snapshot.categoriesById());
+    categories.put(category.categoryId(), category);
+    snapshot = Snapshot.of(snapshot.menuItems(), categories.values());
+  }
+
+  private synchronized void removeCategory(UUID categoryId) {
+    Map<UUID, Category> categories = new LinkedHashMap<>(snapshot.categoriesById());
+    categories.remove(categoryId);
+    snapshot = Snapshot.of(snapshot.menuItems(), categories.values());
+  }
+
+  private record Snapshot(
+      List<MenuItem> menuItems,
+      Map<UUID, MenuItem> menuItemsById,
+      Map<String, MenuItem> menuItemsByName,
+      Map<UUID, List<MenuItem>> menuItemsByCategory,
+      List<Category> categories,
+      Map<UUID, Category> categoriesById,
+      Map<String, Category> categoriesByName,
+      List<CatalogItem> catalogItems,
+      Map<UUID, List<CatalogItem>> catalogItemsByCategory
+  ) {
+    static final Snapshot EMPTY = of(List.of(), List.of());
+
+    static Snapshot of(Iterable<MenuItem> menuItems, Iterable<Category> categories) {
+      Map<UUID, MenuItem> itemsById = new LinkedHashMap<>();
+      Map<String, MenuItem> itemsByName = new LinkedHashMap<>();
+      Map<UUID, List<MenuItem>> itemsByCategory = new LinkedHashMap<>();
+      for (MenuItem item : menuItems) {
+        itemsById.put(item.itemId(), item);
+        itemsByName.putIfAbsent(item.name(), item);
+        itemsByCategory.computeIfAbsent(item.categoryId(), id -> new ArrayList<>()).add(item);
+      }
+      itemsByCategory.replaceAll((id, items) -> List.copyOf(items));
+
+      Map<UUID, Category> categoriesById = new LinkedHashMap<>();
+      Map<String, Category> categoriesByName = new LinkedHashMap<>();
+      for (Category category : categories) {
+        categoriesById.put(category.categoryId(), category);
+        categoriesByName.putIfAbsent(category.categoryName(), category);
+      }
+
+      // Рядок таблиці цін - позиція страви в itemList
+      List<MenuItem> itemList = List.copyOf(itemsById.values());
+      PortionPriceTable priceTable = PortionPriceTable.of(itemList);
+      List<CatalogItem> catalogItems = new ArrayList<>(itemList.size());
+      Map<UUID, List<CatalogItem>> catalogItemsByCategory = new LinkedHashMap<>();
+      for (int row = 0; row < itemList.size(); row++) {
+        CatalogItem catalogItem = new CatalogItem(itemList.get(row), priceTable, row);
+        catalogItems.add(catalogItem);
+        catalogItemsByCategory.computeIfAbsent(catalogItem.menuItem().categoryId(), id -> new ArrayList<>())
+            .add(catalogItem);
+      }
+      catalogItemsByCategory.replaceAll((id, items) -> List.copyOf(items));
+      return new Snapshot(
+          itemList,
+          Collections.unmodifiableMap(itemsById),
+          Collections.unmodifiableMap(itemsByName),
+          Collections.unmodifiableMap(itemsByCategory),
+          List.copyOf(categoriesById.values()),
+          Collections.unmodifiableMap(categoriesById),
+          Collections.unmodifiableMap(categoriesByName),
+          List.copyOf(catalogItems),
+          Collections.unmodifiableMap(catalogItemsByCategory)
+      );
+    }
+  }
+
+  private class CatalogMenuItemRepository implements MenuItemRepository {
+
+    @Override
+    public MenuItem findById(UUID id) throws EntityNotFoundException {
+      MenuItem menuItem = snapshot.menuItemsById().get(id);
+      if (menuItem == null) {
+        throw new EntityNotFoundException("Пункт меню з ID " + id + " не знайдено");
+      }
+      return menuItem;
+    }
+
+    @Override
+    public MenuItem findByName(String name) throws EntityNotFoundException {
+      MenuItem menuItem = snapshot.menuItemsByName().get(name);
+      if (menuItem == null) {
+        throw new EntityNotFoundException("Пункт меню з назвою " + name + " не знайдено");
+      }
+      return menuItem;
+    }
+
+    @Override
+    public List<MenuItem> findAll() {
+      return snapshot.menuItems();
+    }
+
+    @Override
+    public List<MenuItem> findByCategory(UUID categoryId) {
+      return snapshot.menuItemsByCategory().getOrDefault(categoryId, List.of());
+    }
+
+    @Override
+    public MenuItem create(MenuItem menuItem) {
+      MenuItem created = menuItemStore.create(menuItem);
+      if (created != null) {
+        putMenuItem(created);
+      }
+      return created;
+    }
+
+    @Override
+    public MenuItem update(MenuItem menuItem) throws EntityNotFoundException {
+      MenuItem updated = menuItemStore.update(menuItem);
+      if (updated != null) {
+        putMenuItem(updated);
+      }
+      return updated;
+    }
+
+    @Override
+    public void deleteById(UUID id) throws EntityNotFoundException {
+      menuItemStore.deleteById(id);
+      removeMenuItem(id);
+    }
+  }
+
+  private class CatalogCategoryRepository implements CategoryRepository {
+
+    @Override
+    public Category findById(UUID id) throws EntityNotFoundException {
+      Category category = snapshot.categoriesById().get(id);
+      if (category == null) {
+        throw new EntityNotFoundException("Категорію з ID " + id + " не знайдено");
+      }
+      return category;
+    }
+
+    @Override
+    public Category findByName(String categoryName) throws EntityNotFoundException {
+      Category category = snapshot.categoriesByName().get(categoryName);
+      if (category == null) {
+        throw new EntityNotFoundException("Категорію з назвою " + categoryName + " не знайдено");
+      }
+      return category;
+    }
+
+    @Override
+    public List<Category> findAll() {
+      return snapshot.categories();
+    }
+
+    @Override
+    public Category create(Category category) {
+      Category created = categoryStore.create(category);
+      if (created != null) {
+        putCategory(created);
+      }
+      return created;
+    }
+
+    @Override
+    public Category update(Category category) throws EntityNotFoundException {
+      Category updated = categoryStore.update(category);
+      if (updated != null) {
+        putCategory(updated);
+      }
+      return updated;
+    }
+
+    @Override
+    public void deleteById(UUID id) throws EntityNotFoundException {
+      categoryStore.deleteById(id);
+      removeCategory(id);
+    }
+  }
+}
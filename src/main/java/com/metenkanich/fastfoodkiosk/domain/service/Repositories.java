@@ -0,0 +1,74 @@
+package com.metenkanich.fastfoodkiosk.domain.service;
+
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CheckoutRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.OrderRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.PaymentRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CheckoutRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.OrderRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.PaymentRepositoryImpl;
+import javax.sql.DataSource;
+
+/**
+ * Спільні для всього процесу репозиторії. Репозиторії не мають стану, крім пулів
+ * з'єднань, тому контролери беруть їх звідси, а не створюють нові під час кожного
+ * завантаження розмітки. Страви, категорії та користувачі йдуть через кеші
+ * MenuCatalog і UserCache.
+ */
+public class Repositories {
+
+  private static Repositories instance;
+
+  private final CartRepository cartRepository;
+  private final OrderRepository orderRepository;
+  private final PaymentRepository paymentRepository;
+  private final CheckoutRepository checkoutRepository;
+
+  private Repositories(DataSource readDataSource, DataSource writeDataSource) {
+    this.cartRepository = new CartRepositoryImpl(readDataSource, writeDataSource);
+    this.orderRepository = new OrderRepositoryImpl(readDataSource, writeDataSource);
+    this.paymentRepository = new PaymentRepositoryImpl(readDataSource, writeDataSource);
+    this.checkoutRepository = new CheckoutRepositoryImpl(writeDataSource);
+  }
+
+  public static synchronized Repositories getInstance() {
+    if (instance == null) {
+      DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+      instance = new Repositories(databaseConnection.getReadDataSource(), databaseConnection.getWriteDataSource());
+    }
+    return instance;
+  }
+
+  public CartRepository getCartRepository() {
+    return cartRepository;
+  }
+
+  public OrderRepository getOrderRepository() {
+    return orderRepository;
+  }
+
+  public PaymentRepository getPaymentRepository() {
+    return paymentRepository;
+  }
+
+  public CheckoutRepository getCheckoutRepository() {
+    return checkoutRepository;
+  }
+
+  public MenuItemRepository getMenuItemRepository() {
+    return MenuCatalog.getInstance().getMenuItemRepository();
+  }
+
+  public CategoryRepository getCategoryRepository() {
+    return MenuCatalog.getInstance().getCategoryRepository();
+  }
+
+  public UserRepository getUserRepository() {
+    return UserCache.getInstance().getUserRepository();
+  }
+}
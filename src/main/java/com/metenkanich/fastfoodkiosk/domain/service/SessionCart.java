@@ -0,0 +1,280 @@
+package com.metenkanich.fastfoodkiosk.domain.service;
+
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Кошик сесії в пам'яті: додавання, об'єднання та видалення страв не звертаються до БД.
+ * Рядки кожного користувача зберігаються за ID страви, загальна сума оновлюється одразу.
+ * Для відновлення після збою вміст періодично записується у файл знімка, а в таблицю
+ * Cart рядки потрапляють лише під час оформлення замовлення.
+ */
+public class SessionCart {
+
+  // Найбільша кількість однієї страви в рядку кошика; цю ж межу перевіряє CartValidator
+  public static final int MAX_QUANTITY = 100;
+
+  private static final String SNAPSHOT_FILE_NAME = "session-cart.snapshot";
+  private static final long SNAPSHOT_INTERVAL_SECONDS = 5;
+
+  private static SessionCart instance;
+
+  private final CartRepository cartRepository;
+  private final Path snapshotFile;
+  private final Map<UUID, UserCart> carts = new HashMap<>();
+  private final ScheduledExecutorService snapshotExecutor;
+  // Запис файлу знімка з таймера та після оформлення замовлення не повинен перетинатися
+  private final Object snapshotLock = new Object();
+  private boolean dirty;
+
+  private SessionCart(CartRepository cartRepository, Path snapshotFile) {
+    this.cartRepository = cartRepository;
+    this.snapshotFile = snapshotFile;
+    restoreSnapshot();
+    this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "session-cart-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    snapshotExecutor.scheduleWithFixedDelay(this::saveSnapshotIfDirty,
+        SNAPSHOT_INTERVAL_SECONDS, SNAPSHOT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+  }
+
+  public static synchronized SessionCart getInstance() {
+    if (instance == null) {
+      DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+      instance = new SessionCart(new CartRepositoryImpl(
+          databaseConnection.getReadDataSource(), databaseConnection.getWriteDataSource()),
+          snapshotFile(databaseConnection.getProperty("db.url", "")));
+    }
+    return instance;
+  }
+
+  // Знімок лежить поруч із файлом бази (kiosk.cart.snapshot задає інший шлях), а не
+  // відносно робочого каталогу, тож кожна база має власний знімок
+  private static Path snapshotFile(String databaseUrl) {
+    String configured = System.getProperty("kiosk.cart.snapshot");
+    if (configured != null) {
+      return Path.of(configured);
+    }
+    String database = databaseUrl.replaceFirst("^jdbc:sqlite:", "").replaceFirst("^file:", "");
+    int options = database.indexOf('?');
+    if (options >= 0) {
+      database = database.substring(0, options);
+    }
+    if (database.isEmpty() || database.startsWith(":memory:")) {
+      return Path.of("db", SNAPSHOT_FILE_NAME);
+    }
+    return Path.of(database).toAbsolutePath().resolveSibling(SNAPSHOT_FILE_NAME);
+  }
+
+  // Додає страву; якщо вона вже є в кошику, збільшує кількість і суму наявного рядка.
+  // Кількість понад MAX_QUANTITY відхиляється, бо такий рядок не пройде оформлення
+  public synchronized Cart add(UUID userId, UUID itemId, int quantity, long subtotal) {
+    UserCart cart = cartFor(userId);
+    Cart line = cart.lines.get(itemId);
+    int inCart = line == null ? 0 : line.quantity();
+    if (quantity > MAX_QUANTITY - inCart) {
+      throw new IllegalArgumentException("У кошику не може бути більше " + MAX_QUANTITY
+          + " шт. однієї страви (зараз " + inCart + ")");
+    }
+    Cart merged = line == null
+        ? new Cart(Uuids.newId(), userId, itemId, quantity, subtotal, false)
+        : new Cart(line.cartId(), userId, itemId, line.quantity() + quantity,
+            line.subtotal() + subtotal, false);
+    cart.lines.put(itemId, merged);
+    cart.total += subtotal;
+    dirty = true;
+    return merged;
+  }
+
+  public synchronized boolean remove(UUID userId, UUID itemId) {
+    UserCart cart = cartFor(userId);
+    Cart removed = cart.lines.remove(itemId);
+    if (removed == null) {
+      return false;
+    }
+    cart.total -= removed.subtotal();
+    dirty = true;
+    return true;
+  }
+
+  public synchronized boolean contains(UUID userId, UUID itemId) {
+    return cartFor(userId).lines.containsKey(itemId);
+  }
+
+  public synchronized List<Cart> getItems(UUID userId) {
+    return List.copyOf(cartFor(userId).lines.values());
+  }
+
+  // Сума кошика в копійках
+  public synchronized long getTotal(UUID userId) {
+    return cartFor(userId).total;
+  }
+
+  // Незамовлені рядки користувача з БД (кошики, збережені до появи кошика сесії).
+  // Викликається один раз при вході у фоновому потоці: запит виконується поза монітором
+  // кошика, а під ним рядки лише додаються, тож додавання страви ніколи не звертається до БД
+  public void load(UUID userId) {
+    synchronized (this) {
+      if (cartFor(userId).loaded) {
+        return;
+      }
+    }
+    List<Cart> storedLines = cartRepository.findUnorderedByUserId(userId);
+    synchronized (this) {
+      UserCart cart = cartFor(userId);
+      if (cart.loaded) {
+        return;
+      }
+      for (Cart stored : storedLines) {
+        Cart line = cart.lines.get(stored.itemId());
+        if (line == null) {
+          cart.put(stored);
+        } else if (line.quantity() + stored.quantity() <= MAX_QUANTITY) {
+          cart.put(new Cart(line.cartId(), userId, line.itemId(), line.quantity() + stored.quantity(),
+              line.subtotal() + stored.subtotal(), false));
+        }
+      }
+      cart.loaded = true;
+      dirty = dirty || !storedLines.isEmpty();
+    }
+  }
+
+  // Прибирає рядки, що увійшли в оформлене замовлення; страви, додані під час оформлення,
+  // лишаються. Знімок перезаписується одразу: інакше після збою відновилися б уже замовлені
+  // рядки, чиї cart_id вже є в БД
+  public void removeOrdered(UUID userId, List<Cart> orderedLines) {
+    synchronized (this) {
+      UserCart cart = cartFor(userId);
+      for (Cart ordered : orderedLines) {
+        Cart line = cart.lines.get(ordered.itemId());
+        if (line == null || !line.cartId().equals(ordered.cartId())) {
+          continue;
+        }
+        if (line.quantity() <= ordered.quantity()) {
+          cart.lines.remove(ordered.itemId());
+          cart.total -= line.subtotal();
+        } else {
+          // Доданий під час оформлення залишок стає новим рядком: старий cart_id уже замовлено
+          cart.put(new Cart(Uuids.newId(), userId, line.itemId(), line.quantity() - ordered.quantity(),
+              line.subtotal() - ordered.subtotal(), false));
+        }
+      }
+      dirty = true;
+    }
+    saveSnapshotIfDirty();
+  }
+
+  // Зупиняє періодичні знімки та зберігає останній стан
+  public void shutdown() {
+    snapshotExecutor.shutdown();
+    saveSnapshotIfDirty();
+  }
+
+  // Кошик користувача в пам'яті; рядки з БД підхоплює load
+  private UserCart cartFor(UUID userId) {
+    return carts.computeIfAbsent(userId, id -> new UserCart());
+  }
+
+  private void saveSnapshotIfDirty() {
+    synchronized (snapshotLock) {
+      List<String> rows = new ArrayList<>();
+      synchronized (this) {
+        if (!dirty) {
+          return;
+        }
+        for (UserCart cart : carts.values()) {
+          for (Cart line : cart.lines.values()) {
+            rows.add(line.userId() + ";" + line.cartId() + ";" + line.itemId() + ";"
+                + line.quantity() + ";" + line.subtotal());
+          }
+        }
+        dirty = false;
+      }
+
+      try {
+        Path temporaryFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        Files.write(temporaryFile, rows, StandardCharsets.UTF_8);
+        Files.move(temporaryFile, snapshotFile,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException e) {
+        System.err.println("Не вдалося зберегти знімок кошика: " + e.getMessage());
+        synchronized (this) {
+          dirty = true;
+        }
+      }
+    }
+  }
+
+  // Пошкоджений рядок пропускається, решта кошиків відновлюється
+  private void restoreSnapshot() {
+    if (!Files.exists(snapshotFile)) {
+      return;
+    }
+    List<String> rows;
+    try {
+      rows = Files.readAllLines(snapshotFile, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      System.err.println("Не вдалося відновити знімок кошика: " + e.getMessage());
+      return;
+    }
+    for (String row : rows) {
+      if (row.isBlank()) {
+        continue;
+      }
+      String[] fields = row.split(";");
+      try {
+        if (fields.length != 5) {
+          throw new IllegalArgumentException("очікується 5 полів, а не " + fields.length);
+        }
+        UUID userId = UUID.fromString(fields[0]);
+        Cart line = new Cart(UUID.fromString(fields[1]), userId, UUID.fromString(fields[2]),
+            Integer.parseInt(fields[3]), parseSubtotal(fields[4]), false);
+        UserCart cart = cartFor(userId);
+        cart.put(line);
+        // Знімок новіший за незамовлені рядки в БД, тож вони для цього користувача не читаються
+        cart.loaded = true;
+      } catch (IllegalArgumentException e) {
+        System.err.println("Пропущено пошкоджений рядок знімка кошика \"" + row + "\": " + e.getMessage());
+      }
+    }
+  }
+
+  // Знімки, записані до переходу на копійки, містять суму в гривнях з крапкою
+  private static long parseSubtotal(String field) {
+    return field.indexOf('.') >= 0 ? Money.parse(field) : Long.parseLong(field);
+  }
+
+  private static class UserCart {
+    private final Map<UUID, Cart> lines = new LinkedHashMap<>();
+    private long total;
+    private boolean loaded;
+
+    private void put(Cart line) {
+      Cart previous = lines.put(line.itemId(), line);
+      if (previous != null) {
+        total -= previous.subtotal();
+      }
+      total += line.subtotal();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package com.metenkanich.fastfoodkiosk.domain.service;
+
+import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.entity.User;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.Role;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Обмежений кеш користувачів для всього процесу (LRU на MAX_SIZE записів).
+ * findById та findByUsername спершу шукають у кеші; updateUser, updateUserRole
+ * та deleteUser змінюють БД і викидають відповідний запис, тож наступне читання
+ * бачить актуальні дані. Відсутні користувачі не кешуються.
+ * Кожне викидання збільшує лічильник поколінь; прочитаний з БД запис кладеться в кеш,
+ * лише якщо під час читання не було жодного викидання, інакше зміна, що завершилась
+ * між читанням і записом у кеш, залишила б у ньому застарілі дані.
+ */
+public class UserCache {
+
+  private static final int MAX_SIZE = 1024;
+
+  private static UserCache instance;
+
+  private final UserRepository userStore;
+  private final UserRepository userRepository = new CachingUserRepository();
+  private final Map<String, UUID> idsByUsername = new HashMap<>();
+  private final Map<UUID, User> usersById = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<UUID, User> eldest) {
+      if (size() > MAX_SIZE) {
+        idsByUsername.remove(eldest.getValue().username());
+        return true;
+      }
+      return false;
+    }
+  };
+  private long generation;
+
+  private UserCache(UserRepository userStore) {
+    this.userStore = userStore;
+  }
+
+  public static synchronized UserCache getInstance() {
+    if (instance == null) {
+      DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+      instance = new UserCache(new UserRepositoryImpl(
+          databaseConnection.getReadDataSource(), databaseConnection.getWriteDataSource()));
+    }
+    return instance;
+  }
+
+  // Репозиторій користувачів, що читає через кеш і скидає його при змінах
+  public UserRepository getUserRepository() {
+    return userRepository;
+  }
+
+  private synchronized User cachedById(UUID id) {
+    return usersById.get(id);
+  }
+
+  private synchronized User cachedByUsername(String username) {
+    UUID id = idsByUsername.get(username);
+    return id == null ? null : usersById.get(id);
+  }
+
+  private synchronized long generation() {
+    return generation;
+  }
+
+  // Кладе прочитаного користувача в кеш, якщо з початку читання нічого не викидалось
+  private synchronized void putIfCurrent(User user, long readGeneration) {
+    if (generation == readGeneration) {
+      put(user);
+    }
+  }
+
+  private synchronized void put(User user) {
+    User previous = usersById.put(user.userId(), user);
+    if (previous != null) {
+      idsByUsername.remove(previous.username());
+    }
+    idsByUsername.put(user.username(), user.userId());
+  }
+
+  private synchronized void evictById(UUID id) {
+    generation++;
+    User removed = usersById.remove(id);
+    if (removed != null) {
+      idsByUsername.remove(removed.username());
+    }
+  }
+
+  private synchronized void evictByUsername(String username) {
+    generation++;
+    UUID id = idsByUsername.remove(username);
+    if (id != null) {
+      usersById.remove(id);
+    }
+  }
+
+  private class CachingUserRepository implements UserRepository {
+
+    @Override
+    public User findById(UUID id) throws EntityNotFoundException {
+      User user = cachedById(id);
+      if (user == null) {
+        long readGeneration = generation();
+        user = userStore.findById(id);
+        putIfCurrent(user, readGeneration);
+      }
+      return user;
+    }
+
+    @Override
+    public User findByUsername(String username) throws EntityNotFoundException {
+      User user = cachedByUsername(username);
+      if (user == null) {
+        long readGeneration = generation();
+        user = userStore.findByUsername(username);
+        putIfCurrent(user, readGeneration);
+      }
+      return user;
+    }
+
+    @Override
+    public List<User> findAll() {
+      return userStore.findAll();
+    }
+
+    @Override
+    public void addUser(User user) {
+      userStore.addUser(user);
+    }
+
+    // Запис викидається навіть після помилки: стан БД у такому разі невідомий
+    @Override
+    public void updateUser(User user) throws EntityNotFoundException {
+      try {
+        userStore.updateUser(user);
+      } finally {
+        evictById(user.userId());
+        evictByUsername(user.username());
+      }
+    }
+
+    @Override
+    public void updateUserRole(String username, Role newRole) throws EntityNotFoundException {
+      try {
+        userStore.updateUserRole(username, newRole);
+      } finally {
+        evictByUsername(username);
+      }
+    }
+
+    @Override
+    public void deleteUser(String username) throws EntityNotFoundException {
+      try {
+        userStore.deleteUser(username);
+      } finally {
+        evictByUsername(username);
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * Обгортка пулу, що рахує помилки SQLITE_BUSY. Репозиторії перехоплюють SQLException
+ * самі, тому помилку видно лише на рівні з'єднання, інструкції чи курсора —
+ * їх і загортаємо в проксі.
+ */
+public class BusyCountingDataSource implements DataSource {
+
+  // Первинний код SQLITE_BUSY; розширені коди (BUSY_SNAPSHOT тощо) мають той самий молодший байт
+  private static final int SQLITE_BUSY = 5;
+
+  private final DataSource delegate;
+  private final LongAdder busyCount = new LongAdder();
+  private volatile long measureFromNanos;
+
+  public BusyCountingDataSource(DataSource delegate) {
+    this.delegate = delegate;
+  }
+
+  // Помилки під час розігріву не враховуються
+  public void startMeasurement(long nanoTime) {
+    measureFromNanos = nanoTime;
+  }
+
+  public long getBusyCount() {
+    return busyCount.sum();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(Connection.class, countBusy(delegate::getConnection));
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(Connection.class, countBusy(() -> delegate.getConnection(username, password)));
+  }
+
+  private <T> T countBusy(SqlCall<T> call) throws SQLException {
+    try {
+      return call.call();
+    } catch (SQLException e) {
+      recordIfBusy(e);
+      throw e;
+    }
+  }
+
+  private void recordIfBusy(SQLException exception) {
+    for (SQLException e = exception; e != null; e = e.getNextException()) {
+      if ((e.getErrorCode() & 0xFF) == SQLITE_BUSY && System.nanoTime() >= measureFromNanos) {
+        busyCount.increment();
+        return;
+      }
+    }
+  }
+
+  private <T> T wrap(Class<T> type, T target) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+        new CountingHandler(target)));
+  }
+
+  private class CountingHandler implements InvocationHandler {
+    private final Object target;
+
+    private CountingHandler(Object target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result;
+      try {
+        result = method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        if (e.getCause() instanceof SQLException sqlException) {
+          recordIfBusy(sqlException);
+        }
+        throw e.getCause();
+      }
+      Class<?> returnType = method.getReturnType();
+      if (result != null && returnType.isInterface()
+          && (Statement.class.isAssignableFrom(returnType) || ResultSet.class.isAssignableFrom(returnType))) {
+        return Proxy.newProxyInstance(returnType.getClassLoader(), new Class<?>[] {returnType},
+            new CountingHandler(result));
+      }
+      return result;
+    }
+  }
+
+  @FunctionalInterface
+  private interface SqlCall<T> {
+    T call() throws SQLException;
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return delegate.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    delegate.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    delegate.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return delegate.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return delegate.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || delegate.isWrapperFor(iface);
+  }
+}
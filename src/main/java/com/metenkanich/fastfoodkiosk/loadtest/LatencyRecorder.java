@@ -0,0 +1,70 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Затримки кожної операції в наносекундах. Зберігаються всі виміри, тож
+ * перцентилі точні; виміри до початку вимірювання (розігрів) відкидаються.
+ */
+public class LatencyRecorder {
+
+  private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+  private volatile long measureFromNanos;
+
+  public LatencyRecorder() {
+    for (Operation operation : Operation.values()) {
+      samples.put(operation, new Samples());
+    }
+  }
+
+  public void startMeasurement(long nanoTime) {
+    measureFromNanos = nanoTime;
+  }
+
+  public void record(Operation operation, long startNanos, long endNanos, boolean success) {
+    if (startNanos >= measureFromNanos) {
+      samples.get(operation).add(endNanos - startNanos, success);
+    }
+  }
+
+  public Summary summarize(Operation operation) {
+    return samples.get(operation).summarize();
+  }
+
+  public record Summary(int count, int errors, double p50Millis, double p99Millis,
+      double p999Millis, double maxMillis) {
+  }
+
+  private static class Samples {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    private synchronized void add(long latencyNanos, boolean success) {
+      if (count == latencies.length) {
+        latencies = Arrays.copyOf(latencies, count * 2);
+      }
+      latencies[count++] = latencyNanos;
+      if (!success) {
+        errors++;
+      }
+    }
+
+    private synchronized Summary summarize() {
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      return new Summary(count, errors, percentile(sorted, 0.50), percentile(sorted, 0.99),
+          percentile(sorted, 0.999), count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(quantile * sorted.length) - 1;
+      return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import com.metenkanich.fastfoodkiosk.persistence.connection.DataAccessExecutor;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
+import com.metenkanich.fastfoodkiosk.persistence.entity.User;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CheckoutRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.OrderRepository;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Спільний стан прогону: репозиторії, дані для вибору користувачів і категорій,
+ * нещодавні замовлення для адміністраторів та вимірювач затримок.
+ */
+public class LoadContext {
+
+  private static final int RECENT_ORDERS_CAPACITY = 1024;
+
+  private final LoadProfile profile;
+  private final CategoryRepository categoryRepository;
+  private final MenuItemRepository menuItemRepository;
+  private final OrderRepository orderRepository;
+  private final CheckoutRepository checkoutRepository;
+  private final List<User> customers;
+  private final List<Category> categories;
+  private final LatencyRecorder recorder = new LatencyRecorder();
+  private final UUID[] recentOrders = new UUID[RECENT_ORDERS_CAPACITY];
+  private int recentOrderCount;
+  private int recentOrderNext;
+  private volatile long endNanos = Long.MAX_VALUE;
+  private DataAccessExecutor executor;
+
+  public LoadContext(LoadProfile profile, CategoryRepository categoryRepository,
+      MenuItemRepository menuItemRepository, OrderRepository orderRepository,
+      CheckoutRepository checkoutRepository, List<User> customers, List<Category> categories) {
+    this.profile = profile;
+    this.categoryRepository = categoryRepository;
+    this.menuItemRepository = menuItemRepository;
+    this.orderRepository = orderRepository;
+    this.checkoutRepository = checkoutRepository;
+    this.customers = customers;
+    this.categories = categories;
+  }
+
+  // Виконує дію, вимірює затримку (разом з очікуванням у виконавці);
+  // виняток або false вважаються помилкою операції
+  public void timed(Operation operation, Callable<Boolean> action) {
+    long start = System.nanoTime();
+    boolean success;
+    try {
+      success = executor == null ? action.call() : executor.submit(action).join();
+    } catch (Exception e) {
+      success = false;
+    }
+    recorder.record(operation, start, System.nanoTime(), success);
+  }
+
+  // Без виконавця дії виконуються прямо в потоці учасника
+  public void setExecutor(DataAccessExecutor executor) {
+    this.executor = executor;
+  }
+
+  public boolean isRunning() {
+    return System.nanoTime() < endNanos;
+  }
+
+  public void setEndNanos(long endNanos) {
+    this.endNanos = endNanos;
+  }
+
+  public synchronized void addRecentOrder(UUID orderId) {
+    recentOrders[recentOrderNext] = orderId;
+    recentOrderNext = (recentOrderNext + 1) % recentOrders.length;
+    recentOrderCount = Math.min(recentOrderCount + 1, recentOrders.length);
+  }
+
+  public synchronized UUID randomRecentOrder(Random random) {
+    return recentOrderCount == 0 ? null : recentOrders[random.nextInt(recentOrderCount)];
+  }
+
+  public User customer(int index) {
+    return customers.get(index % customers.size());
+  }
+
+  public Category randomCategory(Random random) {
+    return categories.get(random.nextInt(categories.size()));
+  }
+
+  public LoadProfile getProfile() {
+    return profile;
+  }
+
+  public CategoryRepository getCategoryRepository() {
+    return categoryRepository;
+  }
+
+  public MenuItemRepository getMenuItemRepository() {
+    return menuItemRepository;
+  }
+
+  public OrderRepository getOrderRepository() {
+    return orderRepository;
+  }
+
+  public CheckoutRepository getCheckoutRepository() {
+    return checkoutRepository;
+  }
+
+  public LatencyRecorder getRecorder() {
+    return recorder;
+  }
+}
@@ -0,0 +1,185 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Параметри навантаження з аргументів командного рядка виду --key=value.
+ * Мікс задається вагами операцій, наприклад --mix=browse=50,add=30,cart=10,checkout=10.
+ */
+public class LoadProfile {
+
+  // Де виконуються звернення до БД: у потоці учасника чи через DataAccessExecutor
+  public enum Execution {
+    DIRECT, PLATFORM, VIRTUAL
+  }
+
+  public static final String USAGE = """
+      Параметри:
+        --kiosks=50            кількість віртуальних клієнтів (кіосків)
+        --admins=2             кількість віртуальних адміністраторів
+        --boards=0             кількість табло, що опитують статус замовлень
+        --duration=60          тривалість вимірювання, с
+        --warmup=10            розігрів перед вимірюванням, с
+        --think=500            середній час роздумів клієнта між діями, мс
+        --admin-think=2000     середній час роздумів адміністратора, мс
+        --board-think=1000     середній інтервал опитування табло, мс
+        --mix=browse=50,add=30,cart=10,checkout=10
+        --admin-mix=status=80,orders=20
+        --executor=direct      direct - запити в потоках учасників (потоки ОС);
+                               platform/virtual - через DataAccessExecutor у цьому режимі,
+                               учасники тоді працюють у віртуальних потоках
+        --db=path/to/db.sqlite база даних (інакше db.url з database.properties)
+      """;
+
+  private int kiosks = 50;
+  private int admins = 2;
+  private int boards = 0;
+  private int durationSeconds = 60;
+  private int warmupSeconds = 10;
+  private long thinkMillis = 500;
+  private long adminThinkMillis = 2000;
+  private long boardThinkMillis = 1000;
+  private Execution execution = Execution.DIRECT;
+  private String database;
+  private final Map<Operation, Integer> customerMix = new EnumMap<>(Operation.class);
+  private final Map<Operation, Integer> adminMix = new EnumMap<>(Operation.class);
+
+  private LoadProfile() {
+    customerMix.put(Operation.BROWSE, 50);
+    customerMix.put(Operation.ADD_TO_CART, 30);
+    customerMix.put(Operation.VIEW_CART, 10);
+    customerMix.put(Operation.CHECKOUT, 10);
+    adminMix.put(Operation.UPDATE_STATUS, 80);
+    adminMix.put(Operation.LIST_ORDERS, 20);
+  }
+
+  public static LoadProfile parse(String[] args) {
+    LoadProfile profile = new LoadProfile();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith("--") || separator < 0) {
+        throw new IllegalArgumentException("Невірний аргумент: " + arg);
+      }
+      String key = arg.substring(2, separator);
+      String value = arg.substring(separator + 1);
+      switch (key) {
+        case "kiosks" -> profile.kiosks = Integer.parseInt(value);
+        case "admins" -> profile.admins = Integer.parseInt(value);
+        case "boards" -> profile.boards = Integer.parseInt(value);
+        case "duration" -> profile.durationSeconds = Integer.parseInt(value);
+        case "warmup" -> profile.warmupSeconds = Integer.parseInt(value);
+        case "think" -> profile.thinkMillis = Long.parseLong(value);
+        case "admin-think" -> profile.adminThinkMillis = Long.parseLong(value);
+        case "board-think" -> profile.boardThinkMillis = Long.parseLong(value);
+        case "executor" -> profile.execution = Execution.valueOf(value.toUpperCase());
+        case "mix" -> parseMix(value, profile.customerMix, Operation.Actor.CUSTOMER);
+        case "admin-mix" -> parseMix(value, profile.adminMix, Operation.Actor.ADMIN);
+        case "db" -> profile.database = value;
+        default -> throw new IllegalArgumentException("Невідомий параметр: " + key);
+      }
+    }
+    if (profile.kiosks < 0 || profile.admins < 0 || profile.boards < 0
+        || profile.kiosks + profile.admins + profile.boards == 0) {
+      throw new IllegalArgumentException("Потрібен хоча б один кіоск, адміністратор або табло");
+    }
+    return profile;
+  }
+
+  private static void parseMix(String value, Map<Operation, Integer> mix, Operation.Actor actor) {
+    mix.clear();
+    for (String entry : value.split(",")) {
+      String[] parts = entry.split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Невірний мікс: " + value);
+      }
+      Operation operation = Operation.fromKey(parts[0].trim());
+      if (operation.getActor() != actor) {
+        throw new IllegalArgumentException("Операція " + parts[0] + " не належить до цього міксу");
+      }
+      mix.put(operation, Integer.parseInt(parts[1].trim()));
+    }
+    if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+      throw new IllegalArgumentException("Сума ваг міксу має бути додатною: " + value);
+    }
+  }
+
+  // Випадкова операція відповідно до ваг міксу
+  public Operation nextCustomerOperation(Random random) {
+    return pick(customerMix, random);
+  }
+
+  public Operation nextAdminOperation(Random random) {
+    return pick(adminMix, random);
+  }
+
+  private static Operation pick(Map<Operation, Integer> mix, Random random) {
+    int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+    int roll = random.nextInt(total);
+    for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+      roll -= entry.getValue();
+      if (roll < 0) {
+        return entry.getKey();
+      }
+    }
+    throw new IllegalStateException("Порожній мікс операцій");
+  }
+
+  // Експоненційний розподіл навколо середнього, обмежений десятикратним середнім
+  public static long thinkTime(long meanMillis, Random random) {
+    if (meanMillis <= 0) {
+      return 0;
+    }
+    long sample = Math.round(-meanMillis * Math.log(1.0 - random.nextDouble()));
+    return Math.min(sample, meanMillis * 10);
+  }
+
+  public int getKiosks() {
+    return kiosks;
+  }
+
+  public int getAdmins() {
+    return admins;
+  }
+
+  public int getBoards() {
+    return boards;
+  }
+
+  public int getDurationSeconds() {
+    return durationSeconds;
+  }
+
+  public int getWarmupSeconds() {
+    return warmupSeconds;
+  }
+
+  public long getThinkMillis() {
+    return thinkMillis;
+  }
+
+  public long getAdminThinkMillis() {
+    return adminThinkMillis;
+  }
+
+  public long getBoardThinkMillis() {
+    return boardThinkMillis;
+  }
+
+  public Execution getExecution() {
+    return execution;
+  }
+
+  public String getDatabase() {
+    return database;
+  }
+
+  @Override
+  public String toString() {
+    return "kiosks=" + kiosks + ", admins=" + admins + ", boards=" + boards
+        + ", duration=" + durationSeconds + "s, warmup=" + warmupSeconds + "s, think=" + thinkMillis + "ms"
+        + ", admin-think=" + adminThinkMillis + "ms, board-think=" + boardThinkMillis + "ms"
+        + ", executor=" + execution.name().toLowerCase() + ", mix=" + customerMix + ", admin-mix=" + adminMix;
+  }
+}
@@ -0,0 +1,41 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+// Операції, які виконують віртуальні клієнти, адміністратори та табло замовлень
+public enum Operation {
+  BROWSE("browse", Actor.CUSTOMER),
+  ADD_TO_CART("add", Actor.CUSTOMER),
+  VIEW_CART("cart", Actor.CUSTOMER),
+  CHECKOUT("checkout", Actor.CUSTOMER),
+  UPDATE_STATUS("status", Actor.ADMIN),
+  LIST_ORDERS("orders", Actor.ADMIN),
+  POLL_STATUS("poll", Actor.BOARD);
+
+  public enum Actor {
+    CUSTOMER, ADMIN, BOARD
+  }
+
+  private final String key;
+  private final Actor actor;
+
+  Operation(String key, Actor actor) {
+    this.key = key;
+    this.actor = actor;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public Actor getActor() {
+    return actor;
+  }
+
+  public static Operation fromKey(String key) {
+    for (Operation operation : values()) {
+      if (operation.key.equals(key)) {
+        return operation;
+      }
+    }
+    throw new IllegalArgumentException("Невідома операція: " + key);
+  }
+}
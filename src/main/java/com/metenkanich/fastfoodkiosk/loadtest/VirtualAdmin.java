@@ -0,0 +1,68 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderFilter;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderSort;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Адміністратор: переводить нещодавні замовлення на наступний етап обробки
+ * та відкриває список замовлень, як це робить OrdersController.
+ */
+public class VirtualAdmin implements Runnable {
+
+  // Розмір першої сторінки таблиці замовлень в OrdersController
+  private static final int LIST_PAGE_SIZE = 100;
+
+  private final LoadContext context;
+  private final Random random;
+
+  public VirtualAdmin(LoadContext context, int index) {
+    this.context = context;
+    this.random = new Random(-1L - index);
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (context.isRunning()) {
+        Operation operation = context.getProfile().nextAdminOperation(random);
+        UUID orderId = context.randomRecentOrder(random);
+        if (operation == Operation.UPDATE_STATUS && orderId != null) {
+          context.timed(operation, () -> advanceStatus(orderId));
+        } else {
+          context.timed(Operation.LIST_ORDERS, () -> {
+            context.getOrderRepository().findPage(OrderFilter.all(), OrderSort.CREATED_AT_DESC, null, LIST_PAGE_SIZE);
+            return true;
+          });
+        }
+        Thread.sleep(LoadProfile.thinkTime(context.getProfile().getAdminThinkMillis(), random));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean advanceStatus(UUID orderId) throws Exception {
+    Order order = context.getOrderRepository().findById(orderId);
+    OrderStatus next = nextStatus(order.status());
+    if (next == order.status()) {
+      return true;
+    }
+    return context.getOrderRepository().update(
+        new Order(order.orderId(), order.userId(), order.totalPrice(), next, order.createdAt())) != null;
+  }
+
+  // PENDING -> CONFIRMED -> PREPARING -> READY -> DELIVERED; завершені замовлення не змінюються
+  private static OrderStatus nextStatus(OrderStatus status) {
+    return switch (status) {
+      case PENDING -> OrderStatus.CONFIRMED;
+      case CONFIRMED -> OrderStatus.PREPARING;
+      case PREPARING -> OrderStatus.READY;
+      case READY -> OrderStatus.DELIVERED;
+      case DELIVERED, CANCELLED -> status;
+    };
+  }
+}
@@ -0,0 +1,36 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Табло видачі замовлень: періодично перечитує статус одного з нещодавніх замовлень.
+ * Кожен запит легкий, але табло багато, тож вони перевіряють, скільки одночасних
+ * звернень витримує виконавець.
+ */
+public class VirtualBoard implements Runnable {
+
+  private final LoadContext context;
+  private final Random random;
+
+  public VirtualBoard(LoadContext context, int index) {
+    this.context = context;
+    this.random = new Random(Long.MIN_VALUE + index);
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (context.isRunning()) {
+        UUID orderId = context.randomRecentOrder(random);
+        if (orderId != null) {
+          context.timed(Operation.POLL_STATUS,
+              () -> context.getOrderRepository().findStatusById(orderId) != null);
+        }
+        Thread.sleep(LoadProfile.thinkTime(context.getProfile().getBoardThinkMillis(), random));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.metenkanich.fastfoodkiosk.loadtest;
+
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.User;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
+import com.metenkanich.fastfoodkiosk.presentation.validation.CartValidator;
+import com.metenkanich.fastfoodkiosk.presentation.validation.OrderValidator;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Клієнт за кіоском: переглядає категорії, додає страви до кошика, переглядає кошик
+ * та оформлює замовлення тією ж послідовністю, що й CartController.
+ * Як і SessionCart у кіоску, кошик тримається в пам'яті клієнта, а в БД потрапляє
+ * лише під час оформлення замовлення.
+ */
+public class VirtualCustomer implements Runnable {
+
+  private final LoadContext context;
+  private final User user;
+  private final Random random;
+  private final Map<UUID, Cart> cartLines = new LinkedHashMap<>();
+  private List<MenuItem> browsedItems = List.of();
+
+  public VirtualCustomer(LoadContext context, int index) {
+    this.context = context;
+    this.user = context.customer(index);
+    this.random = new Random(index);
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (context.isRunning()) {
+        Operation operation = context.getProfile().nextCustomerOperation(random);
+        if (operation == Operation.ADD_TO_CART && browsedItems.isEmpty()
+            || operation == Operation.CHECKOUT && cartLines.isEmpty()) {
+          operation = browsedItems.isEmpty() ? Operation.BROWSE : Operation.ADD_TO_CART;
+        }
+        switch (operation) {
+          case BROWSE -> context.timed(operation, this::browse);
+          case ADD_TO_CART -> context.timed(operation, this::addToCart);
+          case VIEW_CART -> context.timed(operation, this::viewCart);
+          case CHECKOUT -> context.timed(operation, this::checkout);
+          default -> throw new IllegalStateException("Операція адміністратора в міксі клієнта: " + operation);
+        }
+        Thread.sleep(LoadProfile.thinkTime(context.getProfile().getThinkMillis(), random));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean browse() {
+    context.getCategoryRepository().findAll();
+    browsedItems = context.getMenuItemRepository()
+        .findByCategory(context.randomCategory(random).categoryId()).stream()
+        .filter(menuItem -> Boolean.TRUE.equals(menuItem.isAvailable()))
+        .toList();
+    return true;
+  }
+
+  private boolean addToCart() {
+    MenuItem menuItem = browsedItems.get(random.nextInt(browsedItems.size()));
+    int quantity = 1 + random.nextInt(3);
+    long subtotal = Money.times(menuItem.getPriceForSize(menuItem.defaultPortionSize()), quantity);
+    Cart line = cartLines.get(menuItem.itemId());
+    if (line == null) {
+      cartLines.put(menuItem.itemId(),
+          new Cart(Uuids.newId(), user.userId(), menuItem.itemId(), quantity, subtotal, false));
+      return true;
+    }
+    // Повторне додавання об'єднується з рядком, як у SessionCart, з тією ж межею кількості
+    if (line.quantity() + quantity > SessionCart.MAX_QUANTITY) {
+      return false;
+    }
+    cartLines.put(menuItem.itemId(), new Cart(line.cartId(), user.userId(), menuItem.itemId(),
+        line.quantity() + quantity, line.subtotal() + subtotal, false));
+    return true;
+  }
+
+  // Кіоск показує кошик з пам'яті сесії (SessionCart), тож тут немає запиту до БД:
+  // з виконавцем операція вимірює лише перехід у фоновий потік і назад
+  private boolean viewCart() {
+    long total = 0;
+    for (Cart cartItem : List.copyOf(cartLines.values())) {
+      total = Math.addExact(total, cartItem.subtotal());
+    }
+    return total >= 0;
+  }
+
+  private boolean checkout() {
+    List<Cart> orderedItems = List.copyOf(cartLines.values());
+    for (Cart cartItem : orderedItems) {
+      if (!CartValidator.isCartValid(cartItem, true, null).isValid()) {
+        return false;
+      }
+    }
+    long totalPrice = 0;
+    for (Cart cartItem : orderedItems) {
+      totalPrice = Math.addExact(totalPrice, cartItem.subtotal());
+    }
+    Order order = new Order(null, user.userId(), totalPrice, OrderStatus.PENDING, LocalDateTime.now());
+    if (!OrderValidator.isOrderValid(order, false).isValid()) {
+      return false;
+    }
+    PaymentMethod paymentMethod = random.nextBoolean() ? PaymentMethod.CARD : PaymentMethod.CASH;
+    Order placed = context.getCheckoutRepository().placeOrder(order, orderedItems, paymentMethod);
+    if (placed == null) {
+      return false;
+    }
+    cartLines.clear();
+    context.addRecentOrder(placed.orderId());
+    return true;
+  }
+}
@@ -0,0 +1,142 @@
+package com.metenkanich.fastfoodkiosk.persistence.connection;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Спільний обмежений виконавець звернень до БД поза потоком JavaFX.
+ * Скасування future знімає з черги запит, який ще не почався; запит, що вже
+ * виконується, завершується, але його результат відкидається.
+ *
+ * Режим задається db.access.mode:
+ * platform - фіксований пул потоків ОС за розміром пулу читання;
+ * virtual - кожен запит у власному віртуальному потоці, тож тисячі одночасних запитів
+ * (наприклад, опитування статусу з табло) не потребують тисяч потоків ОС.
+ * Нативні виклики sqlite-jdbc прикріплюють віртуальний потік до носія, тому одночасно
+ * в JDBC допускається не більше db.access.maxConcurrent запитів; решта чекають на семафорі,
+ * не займаючи носіїв. За замовчуванням один носій завжди лишається вільним.
+ */
+public class DataAccessExecutor {
+
+  public enum Mode {
+    PLATFORM, VIRTUAL
+  }
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+  private static DataAccessExecutor instance;
+
+  private final Mode mode;
+  private final int maxConcurrent;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  private DataAccessExecutor(Mode mode, int maxConcurrent) {
+    this.mode = mode;
+    this.maxConcurrent = maxConcurrent;
+    if (mode == Mode.VIRTUAL) {
+      this.executor = Executors.newThreadPerTaskExecutor(
+          Thread.ofVirtual().name("kiosk-data-access-v", 1).factory());
+      this.permits = new Semaphore(maxConcurrent);
+    } else {
+      AtomicInteger threadNumber = new AtomicInteger();
+      this.executor = Executors.newFixedThreadPool(maxConcurrent, runnable -> {
+        Thread thread = new Thread(runnable, "kiosk-data-access-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+      // Кількість потоків пулу вже обмежує одночасні запити
+      this.permits = null;
+    }
+  }
+
+  public static synchronized DataAccessExecutor getInstance() {
+    if (instance == null) {
+      DatabaseConnection databaseConnection = DatabaseConnection.getInstance();
+      Mode mode = Mode.valueOf(databaseConnection.getProperty("db.access.mode", "platform").toUpperCase());
+      int readPoolSize = Integer.parseInt(databaseConnection.getProperty("db.pool.read.maximumSize",
+          String.valueOf(Math.max(2, Runtime.getRuntime().availableProcessors()))));
+      int defaultConcurrency = mode == Mode.VIRTUAL
+          ? Math.min(readPoolSize, Math.max(1, carrierCount() - 1))
+          : readPoolSize;
+      instance = new DataAccessExecutor(mode, Integer.parseInt(databaseConnection.getProperty(
+          "db.access.maxConcurrent", String.valueOf(defaultConcurrency))));
+    }
+    return instance;
+  }
+
+  // Кількість носіїв віртуальних потоків (за замовчуванням - кількість ядер)
+  private static int carrierCount() {
+    String parallelism = System.getProperty("jdk.virtualThreadScheduler.parallelism");
+    return parallelism != null
+        ? Integer.parseInt(parallelism)
+        : Runtime.getRuntime().availableProcessors();
+  }
+
+  // Виконує звернення до БД; помилка виклику завершує future без обгортки
+  public <T> CompletableFuture<T> submit(Callable<T> access) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Future<?> task = executor.submit(() -> {
+      // Скасований запит не займає дозвіл
+      if (permits == null || result.isDone()) {
+        execute(access, result);
+        return;
+      }
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        result.completeExceptionally(e);
+        return;
+      }
+      try {
+        execute(access, result);
+      } finally {
+        permits.release();
+      }
+    });
+    // Потік не перериваємо: перерване з'єднання SQLite не можна безпечно повернути в пул
+    result.whenComplete((value, error) -> {
+      if (result.isCancelled()) {
+        task.cancel(false);
+      }
+    });
+    return result;
+  }
+
+  private static <T> void execute(Callable<T> access, CompletableFuture<T> result) {
+    if (result.isDone()) {
+      return;
+    }
+    try {
+      result.complete(access.call());
+    } catch (Throwable e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  // Дочікується запитів, що вже виконуються (зокрема оформлення замовлення), перед закриттям пулів
+  public void shutdown() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -2,13 +2,26 @@ package com.metenkanich.fastfoodkiosk.persistence.connection;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
 import javax.sql.DataSource;
 
+/**
+ * Два пули з'єднань до SQLite. SQLite допускає лише одного writer-а, тому всі зміни
+ * проходять через пул з одним з'єднанням, а читання (у режимі WAL воно не блокується
+ * записом) обслуговує окремий пул з'єднань, відкритих лише для читання.
+ */
 public class DatabaseConnection {
 
-  private static final String JDBC_URL = "jdbc:sqlite:db/fast-food-kiosk.sqlite";
+  private static final String PROFILE_RESOURCE = "/database.properties";
+  private static final String PRAGMA_PREFIX = "sqlite.";
+  // SQLITE_OPEN_READONLY
+  private static final String READ_ONLY_OPEN_MODE = "1";
   private static DatabaseConnection instance;
-  private static HikariDataSource dataSource;
+  private static HikariDataSource writeDataSource;
+  private static HikariDataSource readDataSource;
+  private static Properties profile;
 
   private DatabaseConnection() {
   }
@@ -16,35 +29,104 @@ public class DatabaseConnection {
   public static synchronized DatabaseConnection getInstance() {
     if (instance == null) {
       instance = new DatabaseConnection();
-      initializeDataSource();
+      initializeDataSources();
     }
     return instance;
   }
 
-  private static void initializeDataSource() {
-    if (dataSource == null) {
-      HikariConfig config = new HikariConfig();
-      config.setJdbcUrl(JDBC_URL);
-      config.setMaximumPoolSize(10);
-      config.setMinimumIdle(2);
-      config.setConnectionTimeout(30000);
-      config.setIdleTimeout(600000);
-      config.setMaxLifetime(1800000);
-      dataSource = new HikariDataSource(config);
+  private static void initializeDataSources() {
+    if (writeDataSource == null) {
+      profile = loadProfile();
+
+      HikariConfig writeConfig = createConfig(profile, "kiosk-writer");
+      writeConfig.setMaximumPoolSize(1);
+      writeConfig.setMinimumIdle(1);
+      writeDataSource = new HikariDataSource(writeConfig);
+      // Міграції виконуються до відкриття читачів, щоб ті бачили актуальну схему
+      SchemaMigrator.migrate(writeDataSource);
+      WriteQueue.start(writeDataSource,
+          Integer.parseInt(profile.getProperty("db.write.maxBatchSize", "64")),
+          Long.parseLong(profile.getProperty("db.write.maxDelayMillis", "2")));
+
+      HikariConfig readConfig = createConfig(profile, "kiosk-reader");
+      readConfig.setMaximumPoolSize(Integer.parseInt(profile.getProperty("db.pool.read.maximumSize",
+          String.valueOf(Math.max(2, Runtime.getRuntime().availableProcessors())))));
+      readConfig.setMinimumIdle(Integer.parseInt(profile.getProperty("db.pool.read.minimumIdle", "2")));
+      readConfig.addDataSourceProperty("open_mode", READ_ONLY_OPEN_MODE);
+      // Hikari має знати про режим лише для читання, інакше спробує скинути його для з'єднання
+      readConfig.setReadOnly(true);
+      readDataSource = new HikariDataSource(readConfig);
+    }
+  }
+
+  private static HikariConfig createConfig(Properties profile, String poolName) {
+    HikariConfig config = new HikariConfig();
+    config.setPoolName(poolName);
+    config.setJdbcUrl(profile.getProperty("db.url"));
+    config.setConnectionTimeout(30000);
+    config.setIdleTimeout(600000);
+    config.setMaxLifetime(1800000);
+    // sqlite-jdbc виконує ці PRAGMA під час відкриття кожного з'єднання
+    for (String key : profile.stringPropertyNames()) {
+      if (key.startsWith(PRAGMA_PREFIX)) {
+        config.addDataSourceProperty(key.substring(PRAGMA_PREFIX.length()), profile.getProperty(key));
+      }
+    }
+    return config;
+  }
+
+  // Профіль з database.properties; системні властивості JVM мають пріоритет
+  private static Properties loadProfile() {
+    Properties profile = new Properties();
+    try (InputStream inputStream = DatabaseConnection.class.getResourceAsStream(PROFILE_RESOURCE)) {
+      if (inputStream != null) {
+        profile.load(inputStream);
+      }
+    } catch (IOException e) {
+      System.err.println("Не вдалося прочитати " + PROFILE_RESOURCE + ": " + e.getMessage());
+    }
+    profile.putIfAbsent("db.url", "jdbc:sqlite:db/fast-food-kiosk.sqlite");
+    for (String key : System.getProperties().stringPropertyNames()) {
+      if (key.startsWith("db.") || key.startsWith(PRAGMA_PREFIX)) {
+        profile.setProperty(key, System.getProperty(key));
+      }
     }
+    return profile;
   }
 
-  public DataSource getDataSource() {
-    if (dataSource == null) {
+  // Значення з профілю підключення (з урахуванням системних властивостей)
+  public String getProperty(String key, String defaultValue) {
+    if (profile == null) {
       getInstance();
     }
-    return dataSource;
+    return profile.getProperty(key, defaultValue);
+  }
+
+  // Пул для запитів на читання
+  public DataSource getReadDataSource() {
+    if (readDataSource == null) {
+      getInstance();
+    }
+    return readDataSource;
+  }
+
+  // Пул з одним з'єднанням для всіх змін у базі даних
+  public DataSource getWriteDataSource() {
+    if (writeDataSource == null) {
+      getInstance();
+    }
+    return writeDataSource;
   }
 
   public void closePool() {
-    if (dataSource != null) {
-      dataSource.close();
-      dataSource = null;
+    if (readDataSource != null) {
+      readDataSource.close();
+      readDataSource = null;
+    }
+    if (writeDataSource != null) {
+      WriteQueue.stop(writeDataSource);
+      writeDataSource.close();
+      writeDataSource = null;
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.metenkanich.fastfoodkiosk.persistence.connection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Версійні міграції схеми. Поточна версія зберігається в PRAGMA user_version,
+ * кожна міграція виконується в окремій транзакції разом із підняттям версії.
+ * Нові міграції додаються в кінець списку MIGRATIONS і ніколи не змінюються.
+ */
+public class SchemaMigrator {
+
+  private static final List<String> MIGRATIONS = List.of(
+      "/migration/V1__create_order_lines.sql",
+      "/migration/V2__create_lookup_indexes.sql",
+      "/migration/V3__create_order_paging_indexes.sql",
+      "/migration/V4__binary_uuid_keys.sql",
+      "/migration/V5__integer_money_columns.sql",
+      "/migration/V6__epoch_millis_timestamps.sql"
+  );
+
+  private SchemaMigrator() {
+  }
+
+  // Версія схеми після всіх міграцій; ddl.sql описує саме її і записує її ж у PRAGMA user_version
+  public static int latestVersion() {
+    return MIGRATIONS.size();
+  }
+
+  public static void migrate(DataSource dataSource) {
+    try (Connection connection = dataSource.getConnection()) {
+      int currentVersion = readVersion(connection);
+      for (int version = currentVersion + 1; version <= MIGRATIONS.size(); version++) {
+        applyMigration(connection, version, MIGRATIONS.get(version - 1));
+      }
+    } catch (SQLException e) {
+      throw new RuntimeException("Помилка під час міграції схеми бази даних", e);
+    }
+  }
+
+  private static int readVersion(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("PRAGMA user_version")) {
+      return resultSet.next() ? resultSet.getInt(1) : 0;
+    }
+  }
+
+  private static void applyMigration(Connection connection, int version, String resource)
+      throws SQLException {
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try (Statement statement = connection.createStatement()) {
+      for (String sql : readStatements(resource)) {
+        statement.executeUpdate(sql);
+      }
+      statement.executeUpdate("PRAGMA user_version = " + version);
+      connection.commit();
+      System.out.println("Схему бази даних оновлено до версії " + version);
+    } catch (SQLException | RuntimeException e) {
+      connection.rollback();
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  // Розбиває скрипт на окремі інструкції, пропускаючи рядкові коментарі
+  private static List<String> readStatements(String resource) {
+    String script;
+    try (InputStream inputStream = SchemaMigrator.class.getResourceAsStream(resource)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Файл міграції " + resource + " не знайдено");
+      }
+      script = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new IllegalStateException("Не вдалося прочитати файл міграції " + resource, e);
+    }
+
+    StringBuilder withoutComments = new StringBuilder();
+    for (String line : script.split("\n")) {
+      if (!line.trim().startsWith("--")) {
+        withoutComments.append(line).append('\n');
+      }
+    }
+
+    List<String> statements = new ArrayList<>();
+    for (String sql : withoutComments.toString().split(";")) {
+      if (!sql.isBlank()) {
+        statements.add(sql.trim());
+      }
+    }
+    return statements;
+  }
+}
@@ -0,0 +1,210 @@
+package com.metenkanich.fastfoodkiosk.persistence.connection;
+
+import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+/**
+ * Черга записів з груповою фіксацією (group commit).
+ * Один потік забирає операції з черги, виконує до maxBatchSize з них (або все, що
+ * надійшло за maxDelayMillis) в одній транзакції і фіксує їх одним COMMIT.
+ * Кожна операція виконується під власною точкою збереження, тож помилка однієї
+ * відкочує лише її. Future кожної операції завершується після COMMIT.
+ * Залежні стадії виконуються в потоці запису, тому вони не повинні чекати на інші записи.
+ */
+public class WriteQueue {
+
+  @FunctionalInterface
+  public interface WriteOperation<T> {
+    T execute(Connection connection) throws SQLException, EntityNotFoundException;
+  }
+
+  private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+  private static final long DEFAULT_MAX_DELAY_MILLIS = 2;
+  private static final Map<DataSource, WriteQueue> QUEUES = new ConcurrentHashMap<>();
+
+  private final DataSource dataSource;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final BlockingQueue<PendingWrite<?>> pending = new LinkedBlockingQueue<>();
+  private final Thread writerThread;
+  // Перевірка running і додавання в чергу відбуваються під цим замком разом із зупинкою,
+  // тож запис не може потрапити в чергу після того, як потік запису її залишив
+  private final Object stateLock = new Object();
+  private volatile boolean running = true;
+
+  private WriteQueue(DataSource dataSource, int maxBatchSize, long maxDelayMillis) {
+    this.dataSource = dataSource;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+    this.writerThread = new Thread(this::run, "kiosk-write-queue");
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+  }
+
+  // Запускає чергу для пулу запису з заданими параметрами групування
+  public static WriteQueue start(DataSource dataSource, int maxBatchSize, long maxDelayMillis) {
+    return QUEUES.computeIfAbsent(dataSource,
+        key -> new WriteQueue(key, maxBatchSize, maxDelayMillis));
+  }
+
+  // Одна черга на пул запису, спільна для всіх репозиторіїв
+  public static WriteQueue forDataSource(DataSource dataSource) {
+    return start(dataSource, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY_MILLIS);
+  }
+
+  // Дописує все, що вже є в черзі, і зупиняє потік запису
+  public static void stop(DataSource dataSource) {
+    WriteQueue queue = QUEUES.remove(dataSource);
+    if (queue != null) {
+      queue.shutdown();
+    }
+  }
+
+  // Очікує на результат запису, повертаючи помилку операції без обгортки CompletionException
+  public static <T> T await(CompletableFuture<T> future) throws SQLException, EntityNotFoundException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException sqlException) {
+        throw sqlException;
+      }
+      if (cause instanceof EntityNotFoundException notFoundException) {
+        throw notFoundException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
+  public <T> CompletableFuture<T> submit(WriteOperation<T> operation) {
+    if (Thread.currentThread() == writerThread) {
+      throw new IllegalStateException("Не можна ставити запис у чергу з потоку запису");
+    }
+    CompletableFuture<T> future = new CompletableFuture<>();
+    synchronized (stateLock) {
+      if (running) {
+        pending.add(new PendingWrite<>(operation, future));
+        return future;
+      }
+    }
+    future.completeExceptionally(new IllegalStateException("Черга записів зупинена"));
+    return future;
+  }
+
+  private void shutdown() {
+    synchronized (stateLock) {
+      running = false;
+    }
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+    while (running || !pending.isEmpty()) {
+      try {
+        PendingWrite<?> first = pending.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+          long remaining = deadline - System.nanoTime();
+          PendingWrite<?> next = remaining > 0
+              ? pending.poll(remaining, TimeUnit.NANOSECONDS)
+              : pending.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        commitBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        // Уже забрані з черги записи не виконано, тож вони теж завершуються помилкою
+        for (PendingWrite<?> write : batch) {
+          write.future().completeExceptionally(new IllegalStateException("Черга записів зупинена", e));
+        }
+        break;
+      } finally {
+        batch.clear();
+      }
+    }
+    // Потік запису могли перервати раніше, ніж черга спорожніла: нові записи вже не
+    // приймаються, а ті, що лишились, завершуються помилкою, щоб await не чекав вічно
+    synchronized (stateLock) {
+      running = false;
+    }
+    IllegalStateException stopped = new IllegalStateException("Черга записів зупинена");
+    for (PendingWrite<?> write = pending.poll(); write != null; write = pending.poll()) {
+      write.future().completeExceptionally(stopped);
+    }
+  }
+
+  private void commitBatch(List<PendingWrite<?>> batch) {
+    Object[] results = new Object[batch.size()];
+    Exception[] failures = new Exception[batch.size()];
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        for (int i = 0; i < batch.size(); i++) {
+          Savepoint savepoint = connection.setSavepoint();
+          try {
+            results[i] = batch.get(i).operation().execute(connection);
+          } catch (SQLException | EntityNotFoundException | RuntimeException e) {
+            connection.rollback(savepoint);
+            failures[i] = e;
+          }
+          connection.releaseSavepoint(savepoint);
+        }
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException | RuntimeException e) {
+      System.err.println("Помилка під час фіксації пакета записів: " + e.getMessage());
+      for (PendingWrite<?> write : batch) {
+        write.future().completeExceptionally(e);
+      }
+      return;
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      if (failures[i] != null) {
+        batch.get(i).future().completeExceptionally(failures[i]);
+      } else {
+        batch.get(i).complete(results[i]);
+      }
+    }
+  }
+
+  private record PendingWrite<T>(WriteOperation<T> operation, CompletableFuture<T> future) {
+
+    @SuppressWarnings("unchecked")
+    void complete(Object result) {
+      future.complete((T) result);
+    }
+  }
+}
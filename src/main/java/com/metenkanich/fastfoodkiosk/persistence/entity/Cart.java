@@ -7,7 +7,7 @@ public record Cart(
     UUID userId,
     UUID itemId,
     int quantity,
-    double subtotal,
+    long subtotal,
     boolean isOrdered
 ) implements Entity,Comparable<Cart> {
 
@@ -0,0 +1,16 @@
+package com.metenkanich.fastfoodkiosk.persistence.entity;
+
+import java.util.UUID;
+
+// Рядок замовлення: елемент кошика з назвою та ціною страви, отриманий одним JOIN-запитом.
+// menuItem дорівнює null, якщо страву вже видалено з меню.
+public record CartLine(
+    Cart cart,
+    MenuItemSummary menuItem
+) implements Entity {
+
+    @Override
+    public UUID id() {
+        return cart.cartId();
+    }
+}
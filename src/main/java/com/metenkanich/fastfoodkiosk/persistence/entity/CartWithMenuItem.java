@@ -0,0 +1,16 @@
+package com.metenkanich.fastfoodkiosk.persistence.entity;
+
+import java.util.UUID;
+
+// Елемент кошика разом зі стравою, отриманий одним JOIN-запитом.
+// menuItem дорівнює null, якщо страву вже видалено з меню.
+public record CartWithMenuItem(
+    Cart cart,
+    MenuItem menuItem
+) implements Entity {
+
+    @Override
+    public UUID id() {
+        return cart.cartId();
+    }
+}
@@ -1,14 +1,14 @@
 package com.metenkanich.fastfoodkiosk.persistence.entity;
 
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
-import java.math.BigDecimal;
 import java.util.UUID;
 
 public record MenuItem(
     UUID itemId,
     String name,
     String description,
-    BigDecimal price,
+    long price,
     UUID categoryId,
     Boolean isAvailable,
     String imagePath,
@@ -24,10 +24,11 @@ public record MenuItem(
     return itemId;
   }
 
-  public BigDecimal getPriceForSize(PortionSize size) {
+  // Ціна порції в копійках; price теж у копійках
+  public long getPriceForSize(PortionSize size) {
     if (size == null) {
       size = defaultPortionSize != null ? defaultPortionSize : PortionSize.MEDIUM;
     }
-    return price.multiply(BigDecimal.valueOf(size.getPriceMultiplier()));
+    return Money.applyMultiplier(price, size.getPriceMultiplier());
   }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.metenkanich.fastfoodkiosk.persistence.entity;
+
+import java.util.UUID;
+
+// Страва без опису та зображення - для списків, які показують лише назву й ціну.
+// price у копійках, як і в MenuItem.
+public record MenuItemSummary(
+    UUID itemId,
+    String name,
+    long price
+) implements Entity {
+
+    @Override
+    public UUID id() {
+        return itemId;
+    }
+}
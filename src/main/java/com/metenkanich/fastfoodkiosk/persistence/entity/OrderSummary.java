@@ -0,0 +1,16 @@
+package com.metenkanich.fastfoodkiosk.persistence.entity;
+
+import java.util.UUID;
+
+// Замовлення разом з іменем користувача, отримане одним JOIN-запитом.
+// username дорівнює null, якщо користувача вже видалено.
+public record OrderSummary(
+    Order order,
+    String username
+) implements Entity {
+
+    @Override
+    public UUID id() {
+        return order.orderId();
+    }
+}
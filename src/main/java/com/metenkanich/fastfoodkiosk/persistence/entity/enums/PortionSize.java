@@ -1,15 +1,16 @@
 package com.metenkanich.fastfoodkiosk.persistence.entity.enums;
 
 public enum PortionSize {
-    SMALL("Маленька", 0.8),
-    MEDIUM("Середня", 1.0),
-    LARGE("Велика", 1.3),
-    EXTRA_LARGE("Екстра велика", 1.6);
+    SMALL("Маленька", 8_000),
+    MEDIUM("Середня", 10_000),
+    LARGE("Велика", 13_000),
+    EXTRA_LARGE("Екстра велика", 16_000);
 
     private final String displayName;
-    private final double priceMultiplier;
+    // Коефіцієнт ціни в базисних пунктах (10 000 = 1,0), див. Money.applyMultiplier
+    private final int priceMultiplier;
 
-    PortionSize(String displayName, double priceMultiplier) {
+    PortionSize(String displayName, int priceMultiplier) {
         this.displayName = displayName;
         this.priceMultiplier = priceMultiplier;
     }
@@ -18,7 +19,7 @@ public enum PortionSize {
         return displayName;
     }
 
-    public double getPriceMultiplier() {
+    public int getPriceMultiplier() {
         return priceMultiplier;
     }
 
@@ -0,0 +1,56 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+
+/**
+ * Дати створення в базі зберігаються як INTEGER - мілісекунди від початку епохи Unix (UTC),
+ * а не як текст: індекси по created_at порівнюють числа, межі періодів у фільтрах - це
+ * звичайний діапазон індексу, а читання рядка не розбирає рядок і не кидає винятків.
+ * У коді дати залишаються LocalDateTime у часовому поясі системи, як і раніше.
+ */
+public final class EpochMillis {
+
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+  private static final ZoneRules RULES = ZONE.getRules();
+  // Для поясу без переходів на літній час зсув відомий заздалегідь і Instant не потрібен
+  private static final ZoneOffset FIXED_OFFSET = RULES.isFixedOffset() ? RULES.getOffset(Instant.EPOCH) : null;
+
+  private EpochMillis() {
+  }
+
+  public static long toMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+  }
+
+  public static LocalDateTime fromMillis(long millis) {
+    if (FIXED_OFFSET != null) {
+      long seconds = Math.floorDiv(millis, 1000L);
+      int nanos = (int) Math.floorMod(millis, 1000L) * 1_000_000;
+      return LocalDateTime.ofEpochSecond(seconds, nanos, FIXED_OFFSET);
+    }
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+  }
+
+  public static void set(PreparedStatement preparedStatement, int index, LocalDateTime dateTime)
+      throws SQLException {
+    if (dateTime == null) {
+      preparedStatement.setNull(index, Types.INTEGER);
+    } else {
+      preparedStatement.setLong(index, toMillis(dateTime));
+    }
+  }
+
+  // Дата з колонки за її номером у вибірці або null, якщо в колонці NULL
+  public static LocalDateTime get(ResultSet resultSet, int column) throws SQLException {
+    long millis = resultSet.getLong(column);
+    return resultSet.wasNull() ? null : fromMillis(millis);
+  }
+}
@@ -0,0 +1,77 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ідентифікатори в базі зберігаються як 16-байтові BLOB у порядку big-endian (як у RFC 9562),
+ * а не як 36-символьний текст: ключі та індекси вдвічі менші, а порівняння - це memcmp.
+ * Нові ідентифікатори - UUIDv7: перші 48 біт - час у мілісекундах, тож нові рядки
+ * дописуються в кінець B-дерева первинного ключа, а не розкидаються по всьому індексу.
+ */
+public final class Uuids {
+
+  public static final int BYTES = 16;
+
+  // Час у мілісекундах, зсунутий на 12 біт, плюс лічильник у цих 12 бітах (rand_a з RFC 9562):
+  // ідентифікатори, створені в межах однієї мілісекунди, теж зростають
+  private static final AtomicLong lastTimestamp = new AtomicLong();
+
+  private Uuids() {
+  }
+
+  // Новий UUIDv7, монотонно зростаючий у межах процесу
+  public static UUID newId() {
+    long now = System.currentTimeMillis() << 12;
+    long timestamp = lastTimestamp.updateAndGet(last -> Math.max(now, last + 1));
+    long mostSignificant = (timestamp >>> 12) << 16 | 0x7000L | (timestamp & 0xFFFL);
+    // Випадкова частина не є секретом: ідентифікатори не використовуються як токени доступу
+    long leastSignificant = ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | Long.MIN_VALUE;
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  public static byte[] toBytes(UUID id) {
+    byte[] bytes = new byte[BYTES];
+    long mostSignificant = id.getMostSignificantBits();
+    long leastSignificant = id.getLeastSignificantBits();
+    for (int i = 7; i >= 0; i--) {
+      bytes[i] = (byte) mostSignificant;
+      bytes[i + 8] = (byte) leastSignificant;
+      mostSignificant >>>= 8;
+      leastSignificant >>>= 8;
+    }
+    return bytes;
+  }
+
+  public static UUID fromBytes(byte[] bytes) {
+    if (bytes.length != BYTES) {
+      throw new IllegalArgumentException("Ідентифікатор має займати " + BYTES + " байтів, а не " + bytes.length);
+    }
+    long mostSignificant = 0;
+    long leastSignificant = 0;
+    for (int i = 0; i < 8; i++) {
+      mostSignificant = mostSignificant << 8 | (bytes[i] & 0xFF);
+      leastSignificant = leastSignificant << 8 | (bytes[i + 8] & 0xFF);
+    }
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  public static void set(PreparedStatement preparedStatement, int index, UUID id) throws SQLException {
+    if (id == null) {
+      preparedStatement.setNull(index, Types.BLOB);
+    } else {
+      preparedStatement.setBytes(index, toBytes(id));
+    }
+  }
+
+  // Ідентифікатор з колонки за її номером у вибірці або null, якщо в колонці NULL
+  public static UUID get(ResultSet resultSet, int column) throws SQLException {
+    byte[] bytes = resultSet.getBytes(column);
+    return bytes != null ? fromBytes(bytes) : null;
+  }
+}
@@ -2,13 +2,23 @@ package com.metenkanich.fastfoodkiosk.persistence.repository.contract;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.CartLine;
+import com.metenkanich.fastfoodkiosk.persistence.entity.CartWithMenuItem;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 public interface CartRepository {
     List<Cart> findAll();
     Cart findById(UUID orderItemId) throws EntityNotFoundException;
     List<Cart> findByUserId(UUID userId);
     List<Cart> findByCategoryId(UUID categoryId);
+    List<Cart> findUnorderedByUserId(UUID userId);
+    List<CartWithMenuItem> findUnorderedWithItemsByUserId(UUID userId);
+    List<CartLine> findCartLinesByIds(Collection<UUID> cartIds);
     Cart create(Cart cartItem);
+    CompletableFuture<Cart> createAsync(Cart cartItem);
     void deleteById(UUID orderItemId) throws EntityNotFoundException;
+    CompletableFuture<Void> deleteByIdAsync(UUID orderItemId);
 }
@@ -0,0 +1,12 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository.contract;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface CheckoutRepository {
+  Order placeOrder(Order order, List<Cart> cartItems, PaymentMethod paymentMethod);
+  CompletableFuture<Order> placeOrderAsync(Order order, List<Cart> cartItems, PaymentMethod paymentMethod);
+}
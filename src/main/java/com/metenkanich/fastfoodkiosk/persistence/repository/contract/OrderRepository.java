@@ -2,14 +2,26 @@ package com.metenkanich.fastfoodkiosk.persistence.repository.contract;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderCursor;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderFilter;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderPage;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderSort;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface OrderRepository {
   Order findById(UUID id) throws EntityNotFoundException;
+  // Лише статус, без решти колонок - для табло, які часто його перечитують
+  OrderStatus findStatusById(UUID id) throws EntityNotFoundException;
   List<Order> findAll();
+  OrderPage findPage(OrderFilter filter, OrderSort sort, OrderCursor after, int pageSize);
   List<UUID> findCartIdsByOrderId(UUID orderId);
   Order create(Order order);
+  CompletableFuture<Order> createAsync(Order order);
   Order update(Order order) throws EntityNotFoundException;
+  CompletableFuture<Order> updateAsync(Order order);
   void deleteById(UUID id) throws EntityNotFoundException;
+  CompletableFuture<Void> deleteByIdAsync(UUID id);
 }
\ No newline at end of file
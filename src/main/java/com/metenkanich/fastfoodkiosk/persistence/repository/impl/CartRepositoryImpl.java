@@ -1,30 +1,51 @@
 package com.metenkanich.fastfoodkiosk.persistence.repository.impl;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.persistence.connection.WriteQueue;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.CartLine;
+import com.metenkanich.fastfoodkiosk.persistence.entity.CartWithMenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItemSummary;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class CartRepositoryImpl implements CartRepository {
-    private final DataSource dataSource;
+    // Колонки в порядку читання mapToCart; страва в JOIN-запитах іде одразу після них
+    private static final String COLUMNS = "c.cart_id, c.user_id, c.item_id, c.quantity, c.subtotal, c.is_ordered";
+    private static final int COLUMN_COUNT = 6;
+    private static final String CART_WITH_MENU_ITEM_QUERY = "SELECT " + COLUMNS + ", " + MenuItemRepositoryImpl.COLUMNS
+        + " FROM Cart c LEFT JOIN MenuItems m ON c.item_id = m.item_id ";
+    // Для рядків замовлення досить назви й ціни, опис і шлях до зображення не читаються
+    private static final String CART_LINE_QUERY = "SELECT " + COLUMNS + ", m.item_id, m.name, m.price"
+        + " FROM Cart c LEFT JOIN MenuItems m ON c.item_id = m.item_id ";
+
+    private final DataSource readDataSource;
+    private final WriteQueue writeQueue;
 
     public CartRepositoryImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        this(dataSource, dataSource);
+    }
+
+    public CartRepositoryImpl(DataSource readDataSource, DataSource writeDataSource) {
+        this.readDataSource = readDataSource;
+        this.writeQueue = WriteQueue.forDataSource(writeDataSource);
     }
 
     @Override
     public List<Cart> findAll() {
         List<Cart> carts = new ArrayList<>();
-        String query = "SELECT * FROM Cart";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Cart c";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query);
             ResultSet resultSet = preparedStatement.executeQuery()) {
             while (resultSet.next()) {
@@ -39,10 +60,10 @@ public class CartRepositoryImpl implements CartRepository {
 
     @Override
     public Cart findById(UUID cartId) throws EntityNotFoundException {
-        String query = "SELECT * FROM Cart WHERE cart_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Cart c WHERE c.cart_id = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, cartId, Types.OTHER);
+            Uuids.set(preparedStatement, 1, cartId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
                     return mapToCart(resultSet);
@@ -58,10 +79,10 @@ public class CartRepositoryImpl implements CartRepository {
     @Override
     public List<Cart> findByUserId(UUID userId) {
         List<Cart> items = new ArrayList<>();
-        String query = "SELECT * FROM Cart WHERE user_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Cart c WHERE c.user_id = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, userId, Types.OTHER);
+            Uuids.set(preparedStatement, 1, userId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     items.add(mapToCart(resultSet));
@@ -77,12 +98,12 @@ public class CartRepositoryImpl implements CartRepository {
     @Override
     public List<Cart> findByCategoryId(UUID categoryId) {
         List<Cart> items = new ArrayList<>();
-        String query = "SELECT c.* FROM Cart c " +
+        String query = "SELECT " + COLUMNS + " FROM Cart c " +
                       "INNER JOIN MenuItems m ON c.item_id = m.item_id " +
                       "WHERE m.category_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, categoryId, Types.OTHER);
+            Uuids.set(preparedStatement, 1, categoryId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     items.add(mapToCart(resultSet));
@@ -96,14 +117,8 @@ public class CartRepositoryImpl implements CartRepository {
     }
     @Override
     public void deleteById(UUID cartId) throws EntityNotFoundException {
-        String query = "DELETE FROM Cart WHERE cart_id = ?";
-        try (Connection connection = dataSource.getConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, cartId, Types.OTHER);
-            int affectedRows = preparedStatement.executeUpdate();
-            if (affectedRows == 0) {
-                throw new EntityNotFoundException("Елемент кошика з ID " + cartId + " не знайдено");
-            }
+        try {
+            WriteQueue.await(deleteByIdAsync(cartId));
         } catch (SQLException e) {
             System.err.println("Помилка при видаленні елемента кошика з ID " + cartId + ": " + e.getMessage());
             e.printStackTrace();
@@ -112,34 +127,66 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    public Cart create(Cart cartItem) {
-        UUID id = cartItem.cartId() != null ? cartItem.cartId() : UUID.randomUUID();
-        String query = "INSERT INTO Cart (cart_id, user_id, item_id, quantity, subtotal, is_ordered) VALUES (?, ?, ?, ?, ?, ?)";
-        try (Connection connection = dataSource.getConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, id, Types.OTHER);
-            preparedStatement.setObject(2, cartItem.userId(), Types.OTHER);
-            preparedStatement.setObject(3, cartItem.itemId(), Types.OTHER);
-            preparedStatement.setInt(4, cartItem.quantity());
-            preparedStatement.setDouble(5, cartItem.subtotal());
-            preparedStatement.setBoolean(6, cartItem.isOrdered());
-            int affectedRows = preparedStatement.executeUpdate();
-            if (affectedRows > 0) {
-                return new Cart(id, cartItem.userId(), cartItem.itemId(), cartItem.quantity(), cartItem.subtotal(), cartItem.isOrdered());
-            } else {
+    public CompletableFuture<Void> deleteByIdAsync(UUID cartId) {
+        String query = "DELETE FROM Cart WHERE cart_id = ?";
+        return writeQueue.submit(connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                Uuids.set(preparedStatement, 1, cartId);
+                int affectedRows = preparedStatement.executeUpdate();
+                if (affectedRows == 0) {
+                    throw new EntityNotFoundException("Елемент кошика з ID " + cartId + " не знайдено");
+                }
                 return null;
             }
-        } catch (SQLException e) {
+        });
+    }
+
+    @Override
+    public Cart create(Cart cartItem) {
+        try {
+            return WriteQueue.await(createAsync(cartItem));
+        } catch (SQLException | EntityNotFoundException e) {
             System.err.println("Помилка при створенні елемента кошика: " + e.getMessage());
             e.printStackTrace();
             return null;
         }
     }
 
+    @Override
+    public CompletableFuture<Cart> createAsync(Cart cartItem) {
+        UUID id = cartItem.cartId() != null ? cartItem.cartId() : Uuids.newId();
+        String query = "INSERT INTO Cart (cart_id, user_id, item_id, quantity, subtotal, is_ordered) VALUES (?, ?, ?, ?, ?, ?)";
+        return writeQueue.submit(connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                Uuids.set(preparedStatement, 1, id);
+                Uuids.set(preparedStatement, 2, cartItem.userId());
+                Uuids.set(preparedStatement, 3, cartItem.itemId());
+                preparedStatement.setInt(4, cartItem.quantity());
+                preparedStatement.setLong(5, cartItem.subtotal());
+                preparedStatement.setBoolean(6, cartItem.isOrdered());
+                int affectedRows = preparedStatement.executeUpdate();
+                if (affectedRows > 0) {
+                    return new Cart(id, cartItem.userId(), cartItem.itemId(), cartItem.quantity(), cartItem.subtotal(), cartItem.isOrdered());
+                } else {
+                    return null;
+                }
+            }
+        });
+    }
+
     // Метод для позначення елементів кошика як замовлених
     public void markCartItemsAsOrdered(List<UUID> cartIds) {
+        try {
+            WriteQueue.await(markCartItemsAsOrderedAsync(cartIds));
+        } catch (SQLException | EntityNotFoundException e) {
+            System.err.println("Помилка при позначенні елементів кошика як замовлених: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    public CompletableFuture<Void> markCartItemsAsOrderedAsync(List<UUID> cartIds) {
         if (cartIds == null || cartIds.isEmpty()) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         StringBuilder query = new StringBuilder("UPDATE Cart SET is_ordered = TRUE WHERE cart_id IN (");
@@ -151,25 +198,24 @@ public class CartRepositoryImpl implements CartRepository {
         }
         query.append(")");
 
-        try (Connection connection = dataSource.getConnection();
-            PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int i = 0; i < cartIds.size(); i++) {
-                preparedStatement.setObject(i + 1, cartIds.get(i), Types.OTHER);
+        return writeQueue.submit(connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+                for (int i = 0; i < cartIds.size(); i++) {
+                    Uuids.set(preparedStatement, i + 1, cartIds.get(i));
+                }
+                preparedStatement.executeUpdate();
+                return null;
             }
-            preparedStatement.executeUpdate();
-        } catch (SQLException e) {
-            System.err.println("Помилка при позначенні елементів кошика як замовлених: " + e.getMessage());
-            e.printStackTrace();
-        }
+        });
     }
 
-    // Метод для отримання елементів кошика користувача, які ще не замовлені
+    @Override
     public List<Cart> findUnorderedByUserId(UUID userId) {
         List<Cart> cartItems = new ArrayList<>();
-        String query = "SELECT * FROM Cart WHERE user_id = ? AND is_ordered = FALSE";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Cart c WHERE c.user_id = ? AND c.is_ordered = FALSE";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, userId, Types.OTHER);
+            Uuids.set(preparedStatement, 1, userId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
                     cartItems.add(mapToCart(resultSet));
@@ -182,13 +228,66 @@ public class CartRepositoryImpl implements CartRepository {
         return cartItems;
     }
 
+    @Override
+    public List<CartWithMenuItem> findUnorderedWithItemsByUserId(UUID userId) {
+        List<CartWithMenuItem> cartItems = new ArrayList<>();
+        String query = CART_WITH_MENU_ITEM_QUERY + "WHERE c.user_id = ? AND c.is_ordered = FALSE";
+        try (Connection connection = readDataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            Uuids.set(preparedStatement, 1, userId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    cartItems.add(mapToCartWithMenuItem(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Помилка при отриманні елементів кошика зі стравами: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return cartItems;
+    }
+
+    @Override
+    public List<CartLine> findCartLinesByIds(Collection<UUID> cartIds) {
+        List<CartLine> cartLines = new ArrayList<>();
+        if (cartIds == null || cartIds.isEmpty()) {
+            return cartLines;
+        }
+
+        StringBuilder query = new StringBuilder(CART_LINE_QUERY).append("WHERE c.cart_id IN (");
+        for (int i = 0; i < cartIds.size(); i++) {
+            query.append("?");
+            if (i < cartIds.size() - 1) {
+                query.append(",");
+            }
+        }
+        query.append(")");
+
+        try (Connection connection = readDataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+            int index = 1;
+            for (UUID cartId : cartIds) {
+                Uuids.set(preparedStatement, index++, cartId);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    cartLines.add(mapToCartLine(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Помилка при отриманні елементів кошика за ID: " + e.getMessage());
+            e.printStackTrace();
+        }
+        return cartLines;
+    }
+
     // Метод для перевірки чи існує товар у кошику користувача
     public boolean existsByUserIdAndItemId(UUID userId, UUID itemId) {
         String query = "SELECT COUNT(*) FROM Cart WHERE user_id = ? AND item_id = ? AND is_ordered = FALSE";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, userId, Types.OTHER);
-            preparedStatement.setObject(2, itemId, Types.OTHER);
+            Uuids.set(preparedStatement, 1, userId);
+            Uuids.set(preparedStatement, 2, itemId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
                     return resultSet.getInt(1) > 0;
@@ -203,12 +302,34 @@ public class CartRepositoryImpl implements CartRepository {
 
     private Cart mapToCart(ResultSet resultSet) throws SQLException {
         return new Cart(
-            UUID.fromString(resultSet.getString("cart_id")),
-            UUID.fromString(resultSet.getString("user_id")),
-            UUID.fromString(resultSet.getString("item_id")),
-            resultSet.getInt("quantity"),
-            resultSet.getDouble("subtotal"),
-            resultSet.getBoolean("is_ordered")
+            Uuids.get(resultSet, 1),
+            Uuids.get(resultSet, 2),
+            Uuids.get(resultSet, 3),
+            resultSet.getInt(4),
+            resultSet.getLong(5),
+            resultSet.getBoolean(6)
         );
     }
+
+    private CartWithMenuItem mapToCartWithMenuItem(ResultSet resultSet) throws SQLException {
+        Cart cart = mapToCart(resultSet);
+        // LEFT JOIN повертає NULL у колонках страви, якщо її вже видалено
+        if (resultSet.getBytes(COLUMN_COUNT + 1) == null) {
+            return new CartWithMenuItem(cart, null);
+        }
+        return new CartWithMenuItem(cart, MenuItemRepositoryImpl.mapToMenuItem(resultSet, COLUMN_COUNT + 1));
+    }
+
+    private CartLine mapToCartLine(ResultSet resultSet) throws SQLException {
+        Cart cart = mapToCart(resultSet);
+        UUID menuItemId = Uuids.get(resultSet, COLUMN_COUNT + 1);
+        if (menuItemId == null) {
+            return new CartLine(cart, null);
+        }
+        return new CartLine(cart, new MenuItemSummary(
+            menuItemId,
+            resultSet.getString(COLUMN_COUNT + 2),
+            resultSet.getLong(COLUMN_COUNT + 3)
+        ));
+    }
 }
\ No newline at end of file
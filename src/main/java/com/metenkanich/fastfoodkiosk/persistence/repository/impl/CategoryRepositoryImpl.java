@@ -2,30 +2,39 @@ package com.metenkanich.fastfoodkiosk.persistence.repository.impl;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import javax.sql.DataSource;
 
 public class CategoryRepositoryImpl implements CategoryRepository {
-  private final DataSource dataSource;
+  // Колонки в порядку читання mapToCategory
+  private static final String COLUMNS = "category_id, category_name, image_path";
+
+  private final DataSource readDataSource;
+  private final DataSource writeDataSource;
 
   public CategoryRepositoryImpl(DataSource dataSource) {
-    this.dataSource = dataSource;
+    this(dataSource, dataSource);
+  }
+
+  public CategoryRepositoryImpl(DataSource readDataSource, DataSource writeDataSource) {
+    this.readDataSource = readDataSource;
+    this.writeDataSource = writeDataSource;
   }
 
   @Override
   public Category findById(UUID id) throws EntityNotFoundException {
-    String query = "SELECT * FROM Categories WHERE category_id = ?";
-    try (Connection connection = dataSource.getConnection();
+    String query = "SELECT " + COLUMNS + " FROM Categories WHERE category_id = ?";
+    try (Connection connection = readDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      preparedStatement.setObject(1, id, Types.OTHER);
+      Uuids.set(preparedStatement, 1, id);
       try (ResultSet resultSet = preparedStatement.executeQuery()) {
         if (resultSet.next()) {
           return mapToCategory(resultSet);
@@ -40,8 +49,8 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
   @Override
   public Category findByName(String categoryName) throws EntityNotFoundException {
-    String query = "SELECT * FROM Categories WHERE category_name = ?";
-    try (Connection connection = dataSource.getConnection();
+    String query = "SELECT " + COLUMNS + " FROM Categories WHERE category_name = ?";
+    try (Connection connection = readDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
       preparedStatement.setString(1, categoryName);
       try (ResultSet resultSet = preparedStatement.executeQuery()) {
@@ -59,8 +68,8 @@ public class CategoryRepositoryImpl implements CategoryRepository {
   @Override
   public List<Category> findAll() {
     List<Category> categories = new ArrayList<>();
-    String query = "SELECT * FROM Categories";
-    try (Connection connection = dataSource.getConnection();
+    String query = "SELECT " + COLUMNS + " FROM Categories";
+    try (Connection connection = readDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query);
         ResultSet resultSet = preparedStatement.executeQuery()) {
       while (resultSet.next()) {
@@ -75,10 +84,10 @@ public class CategoryRepositoryImpl implements CategoryRepository {
   @Override
   public Category create(Category category) {
     String query = "INSERT INTO Categories (category_id, category_name, image_path) VALUES (?, ?, ?)";
-    try (Connection connection = dataSource.getConnection();
+    try (Connection connection = writeDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      UUID id = UUID.randomUUID();
-      preparedStatement.setObject(1, id, Types.OTHER);
+      UUID id = Uuids.newId();
+      Uuids.set(preparedStatement, 1, id);
       preparedStatement.setString(2, category.categoryName());
       preparedStatement.setString(3, category.imagePath());
       preparedStatement.executeUpdate();
@@ -95,11 +104,11 @@ public class CategoryRepositoryImpl implements CategoryRepository {
       throw new EntityNotFoundException("ID категорії не може бути null для оновлення");
     }
     String query = "UPDATE Categories SET category_name = ?, image_path = ? WHERE category_id = ?";
-    try (Connection connection = dataSource.getConnection();
+    try (Connection connection = writeDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
       preparedStatement.setString(1, category.categoryName());
       preparedStatement.setString(2, category.imagePath());
-      preparedStatement.setObject(3, category.categoryId(), Types.OTHER);
+      Uuids.set(preparedStatement, 3, category.categoryId());
       int affectedRows = preparedStatement.executeUpdate();
       if (affectedRows == 0) {
         throw new EntityNotFoundException("Категорію з ID " + category.categoryId() + " не знайдено для оновлення");
@@ -114,9 +123,9 @@ public class CategoryRepositoryImpl implements CategoryRepository {
   @Override
   public void deleteById(UUID id) throws EntityNotFoundException {
     String query = "DELETE FROM Categories WHERE category_id = ?";
-    try (Connection connection = dataSource.getConnection();
+    try (Connection connection = writeDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      preparedStatement.setObject(1, id, Types.OTHER);
+      Uuids.set(preparedStatement, 1, id);
       int affectedRows = preparedStatement.executeUpdate();
       if (affectedRows == 0) {
         throw new EntityNotFoundException("Категорію з ID " + id + " не знайдено");
@@ -128,9 +137,9 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
   private Category mapToCategory(ResultSet resultSet) throws SQLException {
     return new Category(
-        UUID.fromString(resultSet.getString("category_id")),
-        resultSet.getString("category_name"),
-        resultSet.getString("image_path")
+        Uuids.get(resultSet, 1),
+        resultSet.getString(2),
+        resultSet.getString(3)
     );
   }
 }
\ No newline at end of file
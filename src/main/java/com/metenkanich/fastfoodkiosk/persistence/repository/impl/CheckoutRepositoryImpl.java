@@ -0,0 +1,122 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository.impl;
+
+import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.persistence.connection.WriteQueue;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentStatus;
+import com.metenkanich.fastfoodkiosk.persistence.repository.EpochMillis;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CheckoutRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import javax.sql.DataSource;
+
+/**
+ * Оформлення замовлення як одна операція черги записів: рядки кошика, замовлення,
+ * платежі за кожен елемент кошика та рядки OrderLines записуються під однією
+ * точкою збереження. У разі помилки нічого з цього не зберігається.
+ */
+public class CheckoutRepositoryImpl implements CheckoutRepository {
+  private static final String INSERT_ORDER =
+      "INSERT INTO Orders (order_id, user_id, total_price, status, created_at) VALUES (?, ?, ?, ?, ?)";
+  private static final String INSERT_PAYMENT =
+      "INSERT INTO Payments (id, cart_id, payment_method, payment_status, created_at) VALUES (?, ?, ?, ?, ?)";
+  private static final String INSERT_ORDER_LINE =
+      "INSERT INTO OrderLines (cart_id, order_id) VALUES (?, ?)";
+  private static final String DELETE_UNORDERED_CART =
+      "DELETE FROM Cart WHERE user_id = ? AND is_ordered = FALSE";
+  private static final String INSERT_CART_LINE =
+      "INSERT INTO Cart (cart_id, user_id, item_id, quantity, subtotal, is_ordered) VALUES (?, ?, ?, ?, ?, TRUE)";
+
+  private final WriteQueue writeQueue;
+
+  public CheckoutRepositoryImpl(DataSource writeDataSource) {
+    this.writeQueue = WriteQueue.forDataSource(writeDataSource);
+  }
+
+  @Override
+  public Order placeOrder(Order order, List<Cart> cartItems, PaymentMethod paymentMethod) {
+    try {
+      return WriteQueue.await(placeOrderAsync(order, cartItems, paymentMethod));
+    } catch (SQLException | EntityNotFoundException | RuntimeException e) {
+      System.err.println("Помилка при оформленні замовлення: " + e.getMessage());
+      e.printStackTrace();
+      return null;
+    }
+  }
+
+  @Override
+  public CompletableFuture<Order> placeOrderAsync(Order order, List<Cart> cartItems,
+      PaymentMethod paymentMethod) {
+    UUID orderId = Uuids.newId();
+    return writeQueue.submit(connection -> {
+      insertCartLines(connection, order, cartItems);
+      insertOrder(connection, orderId, order);
+      insertPayments(connection, order, cartItems, paymentMethod);
+      insertOrderLines(connection, orderId, cartItems);
+      return new Order(orderId, order.userId(), order.totalPrice(), order.status(), order.createdAt());
+    });
+  }
+
+  private void insertOrder(Connection connection, UUID orderId, Order order) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_ORDER)) {
+      Uuids.set(preparedStatement, 1, orderId);
+      Uuids.set(preparedStatement, 2, order.userId());
+      preparedStatement.setLong(3, order.totalPrice());
+      preparedStatement.setString(4, order.status().name());
+      EpochMillis.set(preparedStatement, 5, order.createdAt());
+      preparedStatement.executeUpdate();
+    }
+  }
+
+  private void insertPayments(Connection connection, Order order, List<Cart> cartItems,
+      PaymentMethod paymentMethod) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_PAYMENT)) {
+      for (Cart cartItem : cartItems) {
+        Uuids.set(preparedStatement, 1, Uuids.newId());
+        Uuids.set(preparedStatement, 2, cartItem.cartId());
+        preparedStatement.setString(3, paymentMethod.name());
+        preparedStatement.setString(4, PaymentStatus.PENDING.name());
+        EpochMillis.set(preparedStatement, 5, order.createdAt());
+        preparedStatement.addBatch();
+      }
+      preparedStatement.executeBatch();
+    }
+  }
+
+  private void insertOrderLines(Connection connection, UUID orderId, List<Cart> cartItems)
+      throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_ORDER_LINE)) {
+      for (Cart cartItem : cartItems) {
+        Uuids.set(preparedStatement, 1, cartItem.cartId());
+        Uuids.set(preparedStatement, 2, orderId);
+        preparedStatement.addBatch();
+      }
+      preparedStatement.executeBatch();
+    }
+  }
+
+  // Кошик живе в пам'яті сесії; у БД він записується вже замовленим, замінюючи старі незамовлені рядки
+  private void insertCartLines(Connection connection, Order order, List<Cart> cartItems) throws SQLException {
+    try (PreparedStatement deleteStatement = connection.prepareStatement(DELETE_UNORDERED_CART);
+        PreparedStatement insertStatement = connection.prepareStatement(INSERT_CART_LINE)) {
+      Uuids.set(deleteStatement, 1, order.userId());
+      deleteStatement.executeUpdate();
+      for (Cart cartItem : cartItems) {
+        Uuids.set(insertStatement, 1, cartItem.cartId());
+        Uuids.set(insertStatement, 2, order.userId());
+        Uuids.set(insertStatement, 3, cartItem.itemId());
+        insertStatement.setInt(4, cartItem.quantity());
+        insertStatement.setLong(5, cartItem.subtotal());
+        insertStatement.addBatch();
+      }
+      insertStatement.executeBatch();
+    }
+  }
+}
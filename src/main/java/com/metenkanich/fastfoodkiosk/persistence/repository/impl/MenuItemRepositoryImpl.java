@@ -3,6 +3,7 @@ package com.metenkanich.fastfoodkiosk.persistence.repository.impl;
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
 
 import java.sql.Connection;
@@ -16,21 +17,32 @@ import java.util.UUID;
 import javax.sql.DataSource;
 
 public class MenuItemRepositoryImpl implements MenuItemRepository {
-    private final DataSource dataSource;
+    // Колонки в тому порядку, в якому їх читає mapToMenuItem; кошик додає їх до свого JOIN
+    static final String COLUMNS =
+        "m.item_id, m.name, m.description, m.price, m.category_id, m.is_available, m.image_path, "
+            + "m.default_portion_size";
+
+    private final DataSource readDataSource;
+    private final DataSource writeDataSource;
 
     public MenuItemRepositoryImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        this(dataSource, dataSource);
+    }
+
+    public MenuItemRepositoryImpl(DataSource readDataSource, DataSource writeDataSource) {
+        this.readDataSource = readDataSource;
+        this.writeDataSource = writeDataSource;
     }
 
     @Override
     public MenuItem findById(UUID id) throws EntityNotFoundException {
-        String query = "SELECT * FROM MenuItems WHERE item_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM MenuItems m WHERE m.item_id = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, id, Types.OTHER);
+            Uuids.set(preparedStatement, 1, id);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    return mapToMenuItem(resultSet);
+                    return mapToMenuItem(resultSet, 1);
                 } else {
                     throw new EntityNotFoundException("Пункт меню з ID " + id + " не знайдено");
                 }
@@ -42,13 +54,13 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
 
     @Override
     public MenuItem findByName(String name) throws EntityNotFoundException {
-        String query = "SELECT * FROM MenuItems WHERE name = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM MenuItems m WHERE m.name = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, name);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
-                    return mapToMenuItem(resultSet);
+                    return mapToMenuItem(resultSet, 1);
                 } else {
                     throw new EntityNotFoundException("Пункт меню з назвою " + name + " не знайдено");
                 }
@@ -61,12 +73,12 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
     @Override
     public List<MenuItem> findAll() {
         List<MenuItem> menuItems = new ArrayList<>();
-        String query = "SELECT * FROM MenuItems";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM MenuItems m";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query);
             ResultSet resultSet = preparedStatement.executeQuery()) {
             while (resultSet.next()) {
-                menuItems.add(mapToMenuItem(resultSet));
+                menuItems.add(mapToMenuItem(resultSet, 1));
             }
         } catch (SQLException e) {
             throw new RuntimeException("Помилка під час отримання всіх пунктів меню", e);
@@ -77,13 +89,13 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
     @Override
     public List<MenuItem> findByCategory(UUID categoryId) {
         List<MenuItem> menuItems = new ArrayList<>();
-        String query = "SELECT * FROM MenuItems WHERE category_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM MenuItems m WHERE m.category_id = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, categoryId, Types.OTHER); // Use setObject for UUID
+            Uuids.set(preparedStatement, 1, categoryId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    menuItems.add(mapToMenuItem(resultSet));
+                    menuItems.add(mapToMenuItem(resultSet, 1));
                 }
             }
         } catch (SQLException e) {
@@ -95,18 +107,18 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
     @Override
     public MenuItem create(MenuItem menuItem) {
         String query = "INSERT INTO MenuItems (item_id, name, description, price, category_id, is_available, image_path, default_portion_size) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = writeDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            UUID id = UUID.randomUUID();
-            preparedStatement.setObject(1, id, Types.OTHER);
+            UUID id = Uuids.newId();
+            Uuids.set(preparedStatement, 1, id);
             preparedStatement.setString(2, menuItem.name());
             if (menuItem.description() == null) {
                 preparedStatement.setNull(3, Types.VARCHAR);
             } else {
                 preparedStatement.setString(3, menuItem.description());
             }
-            preparedStatement.setBigDecimal(4, menuItem.price());
-            preparedStatement.setObject(5, menuItem.categoryId(), Types.OTHER);
+            preparedStatement.setLong(4, menuItem.price());
+            Uuids.set(preparedStatement, 5, menuItem.categoryId());
             preparedStatement.setBoolean(6, menuItem.isAvailable());
             if (menuItem.imagePath() == null) {
                 preparedStatement.setNull(7, Types.VARCHAR);
@@ -132,7 +144,7 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
             throw new EntityNotFoundException("ID пункту меню не може бути null для оновлення");
         }
         String query = "UPDATE MenuItems SET name = ?, description = ?, price = ?, category_id = ?, is_available = ?, image_path = ?, default_portion_size = ? WHERE item_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = writeDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setString(1, menuItem.name());
             if (menuItem.description() == null) {
@@ -140,8 +152,8 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
             } else {
                 preparedStatement.setString(2, menuItem.description());
             }
-            preparedStatement.setBigDecimal(3, menuItem.price());
-            preparedStatement.setObject(4, menuItem.categoryId(), Types.OTHER);
+            preparedStatement.setLong(3, menuItem.price());
+            Uuids.set(preparedStatement, 4, menuItem.categoryId());
             preparedStatement.setBoolean(5, menuItem.isAvailable());
             if (menuItem.imagePath() == null) {
                 preparedStatement.setNull(6, Types.VARCHAR);
@@ -153,7 +165,7 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
             } else {
                 preparedStatement.setString(7, menuItem.defaultPortionSize().name());
             }
-            preparedStatement.setObject(8, menuItem.itemId(), Types.OTHER);
+            Uuids.set(preparedStatement, 8, menuItem.itemId());
             int affectedRows = preparedStatement.executeUpdate();
             if (affectedRows == 0) {
                 throw new EntityNotFoundException("Пункт меню з ID " + menuItem.itemId() + " не знайдено для оновлення");
@@ -167,9 +179,9 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
     @Override
     public void deleteById(UUID id) throws EntityNotFoundException {
         String query = "DELETE FROM MenuItems WHERE item_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = writeDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, id, Types.OTHER);
+            Uuids.set(preparedStatement, 1, id);
             int affectedRows = preparedStatement.executeUpdate();
             if (affectedRows == 0) {
                 throw new EntityNotFoundException("Пункт меню з ID " + id + " не знайдено");
@@ -179,18 +191,19 @@ public class MenuItemRepositoryImpl implements MenuItemRepository {
         }
     }
 
-    private MenuItem mapToMenuItem(ResultSet resultSet) throws SQLException {
-        String portionSizeStr = resultSet.getString("default_portion_size");
+    // Читає колонки COLUMNS, починаючи з колонки first
+    static MenuItem mapToMenuItem(ResultSet resultSet, int first) throws SQLException {
+        String portionSizeStr = resultSet.getString(first + 7);
         PortionSize defaultPortionSize = portionSizeStr != null ? PortionSize.valueOf(portionSizeStr) : PortionSize.MEDIUM;
 
         return new MenuItem(
-            UUID.fromString(resultSet.getString("item_id")),
-            resultSet.getString("name"),
-            resultSet.getString("description"),
-            resultSet.getBigDecimal("price"),
-            UUID.fromString(resultSet.getString("category_id")),
-            resultSet.getBoolean("is_available"),
-            resultSet.getString("image_path"),
+            Uuids.get(resultSet, first),
+            resultSet.getString(first + 1),
+            resultSet.getString(first + 2),
+            resultSet.getLong(first + 3),
+            Uuids.get(resultSet, first + 4),
+            resultSet.getBoolean(first + 5),
+            resultSet.getString(first + 6),
             defaultPortionSize
         );
     }
@@ -1,36 +1,58 @@
 package com.metenkanich.fastfoodkiosk.persistence.repository.impl;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.persistence.connection.WriteQueue;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.OrderSummary;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import com.metenkanich.fastfoodkiosk.persistence.repository.EpochMillis;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.OrderRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderCursor;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderFilter;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderPage;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderSort;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import javax.sql.DataSource;
 
 public class OrderRepositoryImpl implements OrderRepository {
-  private final DataSource dataSource;
-  private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+  private final DataSource readDataSource;
+  private final WriteQueue writeQueue;
+  // Межа підрахунку для першої сторінки: точне число понад неї адміністратору не потрібне
+  private static final int COUNT_LIMIT = 10_000;
+  // Ім'я користувача потрібне і в кожному рядку сторінки, і для текстового пошуку
+  private static final String ORDERS_WITH_USERS = " FROM Orders o LEFT JOIN Users u ON u.user_id = o.user_id";
+  // Колонки в порядку читання mapToOrder; у сторінці за ними йдуть ім'я користувача та ключ сортування
+  private static final String COLUMNS = "o.order_id, o.user_id, o.total_price, o.status, o.created_at";
+  private static final int COLUMN_COUNT = 5;
+  // Дата так, як її показує таблиця замовлень, для текстового пошуку
+  private static final String DISPLAYED_CREATED_AT =
+      "strftime('%Y-%m-%d %H:%M:%S', o.created_at / 1000, 'unixepoch', 'localtime')";
 
   public OrderRepositoryImpl(DataSource dataSource) {
-    this.dataSource = dataSource;
+    this(dataSource, dataSource);
+  }
+
+  public OrderRepositoryImpl(DataSource readDataSource, DataSource writeDataSource) {
+    this.readDataSource = readDataSource;
+    this.writeQueue = WriteQueue.forDataSource(writeDataSource);
   }
 
   @Override
   public Order findById(UUID id) throws EntityNotFoundException {
-    String query = "SELECT * FROM Orders WHERE order_id = ?";
-    try (Connection connection = dataSource.getConnection();
+    String query = "SELECT " + COLUMNS + " FROM Orders o WHERE o.order_id = ?";
+    try (Connection connection = readDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      preparedStatement.setObject(1, id, Types.OTHER);
+      Uuids.set(preparedStatement, 1, id);
       try (ResultSet resultSet = preparedStatement.executeQuery()) {
         if (resultSet.next()) {
           return mapToOrder(resultSet);
@@ -43,11 +65,29 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
   }
 
+  @Override
+  public OrderStatus findStatusById(UUID id) throws EntityNotFoundException {
+    String query = "SELECT status FROM Orders WHERE order_id = ?";
+    try (Connection connection = readDataSource.getConnection();
+        PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+      Uuids.set(preparedStatement, 1, id);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        if (resultSet.next()) {
+          return OrderStatus.valueOf(resultSet.getString(1));
+        } else {
+          throw new EntityNotFoundException("Замовлення з ID " + id + " не знайдено");
+        }
+      }
+    } catch (SQLException e) {
+      throw new EntityNotFoundException("Помилка під час пошуку статусу замовлення з ID " + id, e);
+    }
+  }
+
   @Override
   public List<Order> findAll() {
     List<Order> orders = new ArrayList<>();
-    String query = "SELECT * FROM Orders";
-    try (Connection connection = dataSource.getConnection();
+    String query = "SELECT " + COLUMNS + " FROM Orders o";
+    try (Connection connection = readDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query);
         ResultSet resultSet = preparedStatement.executeQuery()) {
       while (resultSet.next()) {
@@ -59,108 +99,116 @@ public class OrderRepositoryImpl implements OrderRepository {
     return orders;
   }
   @Override
-  public List<UUID> findCartIdsByOrderId(UUID orderId) {
-    List<UUID> cartIds = new ArrayList<>();
+  public OrderPage findPage(OrderFilter filter, OrderSort sort, OrderCursor after, int pageSize) {
+    if (after != null && after.sort() != sort) {
+      throw new IllegalArgumentException("Курсор створено для іншого порядку сортування: " + after.sort());
+    }
+    List<String> conditions = new ArrayList<>();
+    List<Object> parameters = new ArrayList<>();
+    addFilterConditions(filter, conditions, parameters);
 
-    String sql = "SELECT DISTINCT p.cart_id FROM Payments p " +
-                "INNER JOIN Cart c ON p.cart_id = c.cart_id " +
-                "INNER JOIN Orders o ON c.user_id = o.user_id " +
-                "WHERE o.order_id = ? AND c.is_ordered = TRUE " +
-                "AND datetime(p.created_at) >= datetime(o.created_at, '-2 minutes') " +
-                "AND datetime(p.created_at) <= datetime(o.created_at, '+2 minutes')";
+    int totalCount = -1;
+    boolean totalCountCapped = false;
+    if (after == null) {
+      totalCount = countOrders(conditions, parameters);
+      totalCountCapped = totalCount > COUNT_LIMIT;
+      totalCount = Math.min(totalCount, COUNT_LIMIT);
+    }
 
-    try (Connection conn = dataSource.getConnection();
-        PreparedStatement stmt = conn.prepareStatement(sql)) {
-      stmt.setObject(1, orderId);
-      try (ResultSet rs = stmt.executeQuery()) {
-        while (rs.next()) {
-          String cartIdStr = rs.getString("cart_id");
-          if (cartIdStr != null) {
-            cartIds.add(UUID.fromString(cartIdStr));
+    String column = "o." + sort.getColumn();
+    String direction = sort.isDescending() ? "DESC" : "ASC";
+    List<String> pageConditions = new ArrayList<>(conditions);
+    List<Object> pageParameters = new ArrayList<>(parameters);
+    if (after != null) {
+      pageConditions.add("(" + column + ", o.order_id) " + (sort.isDescending() ? "<" : ">") + " (?, ?)");
+      pageParameters.add(after.sortValue());
+      pageParameters.add(after.orderId());
+    }
+    // Зайвий рядок показує, чи є наступна сторінка
+    pageParameters.add(pageSize + 1);
+    String query = "SELECT " + COLUMNS + ", u.username, " + column + ORDERS_WITH_USERS + where(pageConditions)
+        + " ORDER BY " + column + " " + direction + ", o.order_id " + direction + " LIMIT ?";
+
+    List<OrderSummary> orders = new ArrayList<>();
+    OrderCursor nextCursor = null;
+    try (Connection connection = readDataSource.getConnection();
+        PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+      bind(preparedStatement, pageParameters);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        Object lastSortValue = null;
+        while (resultSet.next()) {
+          if (orders.size() == pageSize) {
+            nextCursor = new OrderCursor(sort, lastSortValue, orders.get(orders.size() - 1).order().orderId());
+            break;
           }
+          orders.add(new OrderSummary(mapToOrder(resultSet), resultSet.getString(COLUMN_COUNT + 1)));
+          // Сире значення з бази (мілісекунди або копійки), а не розібраний LocalDateTime:
+          // саме з ним порівнює курсор
+          lastSortValue = resultSet.getObject(COLUMN_COUNT + 2);
         }
       }
     } catch (SQLException e) {
-      System.err.println("Error fetching cart IDs through Payments for order " + orderId + ": " + e.getMessage());
+      // Порожня сторінка виглядала б як "замовлень немає"; помилку має показати інтерфейс
+      throw new RuntimeException("Помилка під час завантаження сторінки замовлень: " + e.getMessage(), e);
     }
-
-    if (cartIds.isEmpty()) {
-      cartIds = findCartIdsByOrderIdAlternative(orderId);
-    }
-
-    return cartIds;
+    return new OrderPage(orders, nextCursor, totalCount, totalCountCapped);
   }
 
-  private List<UUID> findCartIdsByOrderIdAlternative(UUID orderId) {
+  @Override
+  public List<UUID> findCartIdsByOrderId(UUID orderId) {
     List<UUID> cartIds = new ArrayList<>();
-    String sql = "SELECT c.cart_id FROM Cart c " +
-                "INNER JOIN Orders o ON c.user_id = o.user_id " +
-                "WHERE o.order_id = ? AND c.is_ordered = TRUE";
+    String sql = "SELECT cart_id FROM OrderLines WHERE order_id = ?";
 
-    try (Connection conn = dataSource.getConnection();
+    try (Connection conn = readDataSource.getConnection();
         PreparedStatement stmt = conn.prepareStatement(sql)) {
-      stmt.setObject(1, orderId);
+      Uuids.set(stmt, 1, orderId);
       try (ResultSet rs = stmt.executeQuery()) {
         while (rs.next()) {
-          String cartIdStr = rs.getString("cart_id");
-          if (cartIdStr != null) {
-            cartIds.add(UUID.fromString(cartIdStr));
-          }
+          cartIds.add(Uuids.get(rs, 1));
         }
       }
     } catch (SQLException e) {
-      System.err.println("Error in alternative cart ID search for order " + orderId + ": " + e.getMessage());
-      e.printStackTrace();
+      System.err.println("Error fetching cart IDs for order " + orderId + ": " + e.getMessage());
     }
 
     return cartIds;
   }
+
   @Override
   public Order create(Order order) {
-    String query = "INSERT INTO Orders (order_id, user_id, total_price, status, created_at) VALUES (?, ?, ?, ?, ?)";
-    System.out.println("DEBUG OrderRepository: Створюємо замовлення з query: " + query);
-    try (Connection connection = dataSource.getConnection();
-        PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      UUID id = UUID.randomUUID();
-      System.out.println("DEBUG OrderRepository: order ID = " + id);
-      preparedStatement.setObject(1, id, Types.OTHER);
-      preparedStatement.setObject(2, order.userId(), Types.OTHER);
-      preparedStatement.setBigDecimal(3, order.totalPrice());
-      preparedStatement.setString(4, order.status().name());
-      preparedStatement.setObject(5, order.createdAt());
-      System.out.println("DEBUG OrderRepository: Виконуємо executeUpdate()");
-      preparedStatement.executeUpdate();
-      System.out.println("DEBUG OrderRepository: executeUpdate() виконано успішно");
-      return new Order(id, order.userId(), order.totalPrice(), order.status(), order.createdAt());
-    } catch (SQLException e) {
+    try {
+      return WriteQueue.await(createAsync(order));
+    } catch (SQLException | EntityNotFoundException e) {
       System.err.println("DEBUG OrderRepository: SQL Exception при створенні: " + e.getMessage());
       e.printStackTrace();
       return null;
     }
   }
 
+  @Override
+  public CompletableFuture<Order> createAsync(Order order) {
+    String query = "INSERT INTO Orders (order_id, user_id, total_price, status, created_at) VALUES (?, ?, ?, ?, ?)";
+    UUID id = Uuids.newId();
+    return writeQueue.submit(connection -> {
+      try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        Uuids.set(preparedStatement, 1, id);
+        Uuids.set(preparedStatement, 2, order.userId());
+        preparedStatement.setLong(3, order.totalPrice());
+        preparedStatement.setString(4, order.status().name());
+        EpochMillis.set(preparedStatement, 5, order.createdAt());
+        preparedStatement.executeUpdate();
+        return new Order(id, order.userId(), order.totalPrice(), order.status(), order.createdAt());
+      }
+    });
+  }
+
   @Override
   public Order update(Order order) throws EntityNotFoundException {
     if (order.orderId() == null) {
       throw new EntityNotFoundException("ID замовлення не може бути null для оновлення");
     }
-    String query = "UPDATE Orders SET user_id = ?, total_price = ?, status = ?, created_at = ? WHERE order_id = ?";
-    System.out.println("DEBUG OrderRepository: Оновлюємо замовлення з query: " + query);
-    try (Connection connection = dataSource.getConnection();
-        PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      System.out.println("DEBUG OrderRepository: order ID = " + order.orderId());
-      preparedStatement.setObject(1, order.userId(), Types.OTHER);
-      preparedStatement.setBigDecimal(2, order.totalPrice());
-      preparedStatement.setString(3, order.status().name());
-      preparedStatement.setObject(4, order.createdAt());
-      preparedStatement.setObject(5, order.orderId(), Types.OTHER);
-      System.out.println("DEBUG OrderRepository: Виконуємо executeUpdate()");
-      int affectedRows = preparedStatement.executeUpdate();
-      if (affectedRows == 0) {
-        throw new EntityNotFoundException("Замовлення з ID " + order.orderId() + " не знайдено для оновлення");
-      }
-      System.out.println("DEBUG OrderRepository: executeUpdate() виконано успішно");
-      return order;
+    try {
+      return WriteQueue.await(updateAsync(order));
     } catch (SQLException e) {
       System.err.println("DEBUG OrderRepository: SQL Exception при оновленні: " + e.getMessage());
       e.printStackTrace();
@@ -168,40 +216,139 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
   }
 
+  @Override
+  public CompletableFuture<Order> updateAsync(Order order) {
+    String query = "UPDATE Orders SET user_id = ?, total_price = ?, status = ?, created_at = ? WHERE order_id = ?";
+    return writeQueue.submit(connection -> {
+      try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        Uuids.set(preparedStatement, 1, order.userId());
+        preparedStatement.setLong(2, order.totalPrice());
+        preparedStatement.setString(3, order.status().name());
+        EpochMillis.set(preparedStatement, 4, order.createdAt());
+        Uuids.set(preparedStatement, 5, order.orderId());
+        int affectedRows = preparedStatement.executeUpdate();
+        if (affectedRows == 0) {
+          throw new EntityNotFoundException("Замовлення з ID " + order.orderId() + " не знайдено для оновлення");
+        }
+        return order;
+      }
+    });
+  }
+
   @Override
   public void deleteById(UUID id) throws EntityNotFoundException {
+    try {
+      WriteQueue.await(deleteByIdAsync(id));
+    } catch (SQLException e) {
+      e.printStackTrace();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteByIdAsync(UUID id) {
     String query = "DELETE FROM Orders WHERE order_id = ?";
-    try (Connection connection = dataSource.getConnection();
+    String linesQuery = "DELETE FROM OrderLines WHERE order_id = ?";
+    return writeQueue.submit(connection -> {
+      try (PreparedStatement linesStatement = connection.prepareStatement(linesQuery);
+          PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+        Uuids.set(linesStatement, 1, id);
+        linesStatement.executeUpdate();
+        Uuids.set(preparedStatement, 1, id);
+        int affectedRows = preparedStatement.executeUpdate();
+        if (affectedRows == 0) {
+          throw new EntityNotFoundException("Замовлення з ID " + id + " не знайдено");
+        }
+        return null;
+      }
+    });
+  }
+
+  private void addFilterConditions(OrderFilter filter, List<String> conditions, List<Object> parameters) {
+    if (!filter.statuses().isEmpty()) {
+      conditions.add("o.status IN (" + placeholders(filter.statuses().size()) + ")");
+      filter.statuses().forEach(status -> parameters.add(status.name()));
+    }
+    if (filter.userId() != null) {
+      conditions.add("o.user_id = ?");
+      parameters.add(filter.userId());
+    }
+    // created_at - мілісекунди від початку епохи, тож межі періоду - це діапазон індексу
+    if (filter.createdFrom() != null) {
+      conditions.add("o.created_at >= ?");
+      parameters.add(EpochMillis.toMillis(filter.createdFrom()));
+    }
+    if (filter.createdTo() != null) {
+      conditions.add("o.created_at < ?");
+      parameters.add(EpochMillis.toMillis(filter.createdTo()));
+    }
+    if (filter.text() != null) {
+      // LIKE у SQLite не враховує регістр лише для латиниці
+      String pattern = "%" + escapeLike(filter.text()) + "%";
+      // Сума зберігається в копійках, тому шукаємо в тому вигляді, в якому її показує таблиця
+      List<String> textConditions = new ArrayList<>(List.of(
+          "u.username LIKE ? ESCAPE '\\'",
+          "printf('%d.%02d', o.total_price / 100, o.total_price % 100) LIKE ? ESCAPE '\\'",
+          DISPLAYED_CREATED_AT + " LIKE ? ESCAPE '\\'"));
+      parameters.add(pattern);
+      parameters.add(pattern);
+      parameters.add(pattern);
+      // Назви статусів живуть лише в коді, тому збіг за назвою перетворюємо на умову за кодом
+      List<OrderStatus> matchingStatuses = Arrays.stream(OrderStatus.values())
+          .filter(status -> status.getLabel().toLowerCase().contains(filter.text().toLowerCase()))
+          .toList();
+      if (!matchingStatuses.isEmpty()) {
+        textConditions.add("o.status IN (" + placeholders(matchingStatuses.size()) + ")");
+        matchingStatuses.forEach(status -> parameters.add(status.name()));
+      }
+      conditions.add("(" + String.join(" OR ", textConditions) + ")");
+    }
+  }
+
+  private int countOrders(List<String> conditions, List<Object> parameters) {
+    List<Object> countParameters = new ArrayList<>(parameters);
+    countParameters.add(COUNT_LIMIT + 1);
+    String query = "SELECT count(*) FROM (SELECT 1" + ORDERS_WITH_USERS + where(conditions) + " LIMIT ?)";
+    try (Connection connection = readDataSource.getConnection();
         PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-      preparedStatement.setObject(1, id, Types.OTHER);
-      int affectedRows = preparedStatement.executeUpdate();
-      if (affectedRows == 0) {
-        throw new EntityNotFoundException("Замовлення з ID " + id + " не знайдено");
+      bind(preparedStatement, countParameters);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        return resultSet.next() ? resultSet.getInt(1) : 0;
       }
     } catch (SQLException e) {
-      e.printStackTrace();
+      throw new RuntimeException("Помилка під час підрахунку замовлень: " + e.getMessage(), e);
     }
   }
 
-  private Order mapToOrder(ResultSet resultSet) throws SQLException {
-    String createdAtStr = resultSet.getString("created_at");
-    LocalDateTime createdAt;
+  private static String where(List<String> conditions) {
+    return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+  }
 
-    try {
-      createdAt = LocalDateTime.parse(createdAtStr, DATE_TIME_FORMATTER);
-    } catch (DateTimeParseException e) {
-      try {
-        createdAt = LocalDateTime.parse(createdAtStr);
-      } catch (DateTimeParseException e2) {
-        createdAt = LocalDateTime.now();
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static String escapeLike(String text) {
+    return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  private static void bind(PreparedStatement preparedStatement, List<Object> parameters) throws SQLException {
+    for (int i = 0; i < parameters.size(); i++) {
+      Object parameter = parameters.get(i);
+      if (parameter instanceof UUID id) {
+        Uuids.set(preparedStatement, i + 1, id);
+      } else {
+        preparedStatement.setObject(i + 1, parameter);
       }
     }
+  }
+
+  private Order mapToOrder(ResultSet resultSet) throws SQLException {
     return new Order(
-        UUID.fromString(resultSet.getString("order_id")),
-        UUID.fromString(resultSet.getString("user_id")),
-        resultSet.getBigDecimal("total_price"),
-        OrderStatus.valueOf(resultSet.getString("status")),
-        createdAt
+        Uuids.get(resultSet, 1),
+        Uuids.get(resultSet, 2),
+        resultSet.getLong(3),
+        OrderStatus.valueOf(resultSet.getString(4)),
+        EpochMillis.get(resultSet, 5)
     );
   }
 }
\ No newline at end of file
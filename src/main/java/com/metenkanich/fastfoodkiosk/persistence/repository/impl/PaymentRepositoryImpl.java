@@ -4,31 +4,40 @@ import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Payment;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentStatus;
+import com.metenkanich.fastfoodkiosk.persistence.repository.EpochMillis;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.PaymentRepository;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import javax.sql.DataSource;
 
 public class PaymentRepositoryImpl implements PaymentRepository {
-    private final DataSource dataSource;
+    // Колонки в порядку читання mapToPayment
+    private static final String COLUMNS = "id, cart_id, payment_method, payment_status, created_at";
+
+    private final DataSource readDataSource;
+    private final DataSource writeDataSource;
 
     public PaymentRepositoryImpl(DataSource dataSource) {
-        this.dataSource = dataSource;
+        this(dataSource, dataSource);
+    }
+
+    public PaymentRepositoryImpl(DataSource readDataSource, DataSource writeDataSource) {
+        this.readDataSource = readDataSource;
+        this.writeDataSource = writeDataSource;
     }
 
     @Override
     public Payment findById(UUID id) throws EntityNotFoundException {
-        String query = "SELECT * FROM Payments WHERE id = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Payments WHERE id = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, id, Types.OTHER);
+            Uuids.set(preparedStatement, 1, id);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
                     return mapToPayment(resultSet);
@@ -44,8 +53,8 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     @Override
     public List<Payment> findAll() {
         List<Payment> payments = new ArrayList<>();
-        String query = "SELECT * FROM Payments ORDER BY created_at DESC";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Payments ORDER BY created_at DESC";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query);
             ResultSet resultSet = preparedStatement.executeQuery()) {
             while (resultSet.next()) {
@@ -60,10 +69,10 @@ public class PaymentRepositoryImpl implements PaymentRepository {
 
     @Override
     public Payment findByCartId(UUID cartId) throws EntityNotFoundException {
-        String query = "SELECT * FROM Payments WHERE cart_id = ?";
-        try (Connection connection = dataSource.getConnection();
+        String query = "SELECT " + COLUMNS + " FROM Payments WHERE cart_id = ?";
+        try (Connection connection = readDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, cartId, Types.OTHER);
+            Uuids.set(preparedStatement, 1, cartId);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 if (resultSet.next()) {
                     return mapToPayment(resultSet);
@@ -80,15 +89,15 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public Payment create(Payment payment) {
         String query = "INSERT INTO Payments (id, cart_id, payment_method, payment_status, created_at) VALUES (?, ?, ?, ?, ?)";
         System.out.println("DEBUG PaymentRepository: Створюємо платіж з query: " + query);
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = writeDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            UUID id = UUID.randomUUID();
+            UUID id = Uuids.newId();
             System.out.println("DEBUG PaymentRepository: payment ID = " + id + ", cart_id = " + payment.cartId());
-            preparedStatement.setObject(1, id, Types.OTHER);
-            preparedStatement.setObject(2, payment.cartId(), Types.OTHER);
+            Uuids.set(preparedStatement, 1, id);
+            Uuids.set(preparedStatement, 2, payment.cartId());
             preparedStatement.setString(3, payment.paymentMethod().name());
             preparedStatement.setString(4, payment.paymentStatus().name());
-            preparedStatement.setObject(5, payment.createdAt());
+            EpochMillis.set(preparedStatement, 5, payment.createdAt());
             System.out.println("DEBUG PaymentRepository: Виконуємо executeUpdate()");
             preparedStatement.executeUpdate();
             System.out.println("DEBUG PaymentRepository: executeUpdate() виконано успішно");
@@ -107,14 +116,14 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         }
         String query = "UPDATE Payments SET cart_id = ?, payment_method = ?, payment_status = ?, created_at = ? WHERE id = ?";
         System.out.println("DEBUG PaymentRepository: Оновлюємо платіж з query: " + query);
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = writeDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             System.out.println("DEBUG PaymentRepository: payment ID = " + payment.id() + ", cart_id = " + payment.cartId());
-            preparedStatement.setObject(1, payment.cartId(), Types.OTHER);
+            Uuids.set(preparedStatement, 1, payment.cartId());
             preparedStatement.setString(2, payment.paymentMethod().name());
             preparedStatement.setString(3, payment.paymentStatus().name());
-            preparedStatement.setObject(4, payment.createdAt());
-            preparedStatement.setObject(5, payment.id(), Types.OTHER);
+            EpochMillis.set(preparedStatement, 4, payment.createdAt());
+            Uuids.set(preparedStatement, 5, payment.id());
             System.out.println("DEBUG PaymentRepository: Виконуємо executeUpdate()");
             int affectedRows = preparedStatement.executeUpdate();
             if (affectedRows == 0) {
@@ -132,9 +141,9 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     @Override
     public void deleteById(UUID id) throws EntityNotFoundException {
         String query = "DELETE FROM Payments WHERE id = ?";
-        try (Connection connection = dataSource.getConnection();
+        try (Connection connection = writeDataSource.getConnection();
             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setObject(1, id, Types.OTHER);
+            Uuids.set(preparedStatement, 1, id);
             int affectedRows = preparedStatement.executeUpdate();
             if (affectedRows == 0) {
                 throw new EntityNotFoundException("Платіж з ID " + id + " не знайдено");
@@ -147,25 +156,12 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     private Payment mapToPayment(ResultSet resultSet) throws SQLException {
-        String createdAtString = resultSet.getString("created_at");
-        LocalDateTime createdAt;
-
-        try {
-            if (createdAtString.contains("+")) {
-                createdAtString = createdAtString.substring(0, createdAtString.indexOf("+"));
-            }
-            createdAt = LocalDateTime.parse(createdAtString.replace(" ", "T"));
-        } catch (Exception e) {
-            System.err.println("Помилка парсингу дати: " + createdAtString + ", використовуємо поточний час");
-            createdAt = LocalDateTime.now();
-        }
-
         return new Payment(
-            UUID.fromString(resultSet.getString("id")),
-            UUID.fromString(resultSet.getString("cart_id")),
-            PaymentMethod.valueOf(resultSet.getString("payment_method")),
-            PaymentStatus.valueOf(resultSet.getString("payment_status")),
-            createdAt
+            Uuids.get(resultSet, 1),
+            Uuids.get(resultSet, 2),
+            PaymentMethod.valueOf(resultSet.getString(3)),
+            PaymentStatus.valueOf(resultSet.getString(4)),
+            EpochMillis.get(resultSet, 5)
         );
     }
 }
\ No newline at end of file
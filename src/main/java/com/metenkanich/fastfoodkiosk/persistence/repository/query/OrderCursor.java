@@ -0,0 +1,11 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository.query;
+
+import java.util.UUID;
+
+/**
+ * Позиція після останнього рядка сторінки (keyset-пагінація). Зберігає значення ключа
+ * сортування саме в тому вигляді, в якому воно лежить у базі, тому наступна сторінка
+ * продовжується точно з того ж місця незалежно від вставок і видалень.
+ */
+public record OrderCursor(OrderSort sort, Object sortValue, UUID orderId) {
+}
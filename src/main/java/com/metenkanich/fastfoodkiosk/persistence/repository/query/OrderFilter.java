@@ -0,0 +1,45 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository.query;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Умови вибірки замовлень. Порожній набір статусів та null-поля означають «без обмежень».
+ * Інтервал дат напіввідкритий: createdFrom включно, createdTo — ні.
+ * Текст шукається в імені користувача, сумі, даті та назві статусу.
+ */
+public record OrderFilter(
+    Set<OrderStatus> statuses,
+    UUID userId,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo,
+    String text
+) {
+
+  public OrderFilter {
+    statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+    text = text == null || text.isBlank() ? null : text.trim();
+  }
+
+  public static OrderFilter all() {
+    return new OrderFilter(Set.of(), null, null, null, null);
+  }
+
+  public OrderFilter withStatuses(Set<OrderStatus> statuses) {
+    return new OrderFilter(statuses, userId, createdFrom, createdTo, text);
+  }
+
+  public OrderFilter withUserId(UUID userId) {
+    return new OrderFilter(statuses, userId, createdFrom, createdTo, text);
+  }
+
+  public OrderFilter withCreatedBetween(LocalDateTime createdFrom, LocalDateTime createdTo) {
+    return new OrderFilter(statuses, userId, createdFrom, createdTo, text);
+  }
+
+  public OrderFilter withText(String text) {
+    return new OrderFilter(statuses, userId, createdFrom, createdTo, text);
+  }
+}
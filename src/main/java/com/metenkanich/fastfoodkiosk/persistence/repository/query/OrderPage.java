@@ -0,0 +1,16 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository.query;
+
+import com.metenkanich.fastfoodkiosk.persistence.entity.OrderSummary;
+import java.util.List;
+
+/**
+ * Одна сторінка замовлень з іменами користувачів. nextCursor дорівнює null на останній сторінці.
+ * Кількість рахується лише для першої сторінки (для наступних — -1) і не більше
+ * певної межі: якщо totalCountCapped, замовлень більше, ніж totalCount.
+ */
+public record OrderPage(List<OrderSummary> orders, OrderCursor nextCursor, int totalCount, boolean totalCountCapped) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
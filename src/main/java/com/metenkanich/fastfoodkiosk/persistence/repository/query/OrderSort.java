@@ -0,0 +1,25 @@
+package com.metenkanich.fastfoodkiosk.persistence.repository.query;
+
+// Порядок сторінок замовлень; order_id додатково впорядковує рядки з однаковим ключем
+public enum OrderSort {
+  CREATED_AT_DESC("created_at", true),
+  CREATED_AT_ASC("created_at", false),
+  TOTAL_PRICE_DESC("total_price", true),
+  TOTAL_PRICE_ASC("total_price", false);
+
+  private final String column;
+  private final boolean descending;
+
+  OrderSort(String column, boolean descending) {
+    this.column = column;
+    this.descending = descending;
+  }
+
+  public String getColumn() {
+    return column;
+  }
+
+  public boolean isDescending() {
+    return descending;
+  }
+}
@@ -0,0 +1,73 @@
+package com.metenkanich.fastfoodkiosk.presentation.async;
+
+import com.metenkanich.fastfoodkiosk.persistence.connection.DataAccessExecutor;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+/**
+ * Звернення до БД з контролерів без блокування потоку JavaFX.
+ * Запит виконується в DataAccessExecutor, а обробники результату викликаються через
+ * Platform.runLater. Запит прив'язаний до вузла-власника: коли вузол зникає зі сцени
+ * (користувач перейшов на інший розділ), запит скасовується і обробники не викликаються.
+ * Записи (оформлення замовлення, збереження і видалення в адмін-розділах) виконуються через
+ * submit без власника: розділи тримаються в пам'яті, тож результат запису має дійти до
+ * контролера, навіть якщо користувач тим часом перейшов на інший розділ.
+ */
+public final class FxDataAccess {
+
+  private FxDataAccess() {
+  }
+
+  // Викликається з потоку JavaFX; повертає future, який можна скасувати вручну
+  public static <T> CompletableFuture<T> run(Node owner, Callable<T> access,
+      Consumer<? super T> onSuccess, Consumer<Throwable> onError) {
+    CompletableFuture<T> future = DataAccessExecutor.getInstance().submit(access);
+    // Під час initialize() вузол ще не в сцені, тому скасовуємо лише при виході з неї
+    ChangeListener<Scene> sceneListener = (observable, oldScene, newScene) -> {
+      if (oldScene != null && newScene == null) {
+        future.cancel(false);
+      }
+    };
+    owner.sceneProperty().addListener(sceneListener);
+
+    future.whenComplete((value, error) -> Platform.runLater(() -> {
+      owner.sceneProperty().removeListener(sceneListener);
+      if (future.isCancelled()) {
+        return;
+      }
+      if (error != null) {
+        onError.accept(unwrap(error));
+      } else {
+        onSuccess.accept(value);
+      }
+    }));
+    return future;
+  }
+
+  // Запис, який не скасовується при зміні розділу; обробники викликаються завжди
+  public static <T> CompletableFuture<T> submit(Callable<T> access,
+      Consumer<? super T> onSuccess, Consumer<Throwable> onError) {
+    CompletableFuture<T> future = DataAccessExecutor.getInstance().submit(access);
+    future.whenComplete((value, error) -> Platform.runLater(() -> {
+      if (error != null) {
+        onError.accept(unwrap(error));
+      } else {
+        onSuccess.accept(value);
+      }
+    }));
+    return future;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+    return error;
+  }
+}
@@ -3,10 +3,12 @@ package com.metenkanich.fastfoodkiosk.presentation.controller;
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.domain.security.AuthenticatedUser;
 import com.metenkanich.fastfoodkiosk.domain.security.PasswordHashing;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
+import com.metenkanich.fastfoodkiosk.domain.service.UserCache;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
 import java.io.IOException;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -16,10 +18,8 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
-import javax.sql.DataSource;
 
 public class AuthorizationController {
 
@@ -41,8 +41,7 @@ public class AuthorizationController {
   private UserRepository userRepository;
 
   public AuthorizationController() {
-    DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-    this.userRepository = new UserRepositoryImpl(dataSource);
+    this.userRepository = UserCache.getInstance().getUserRepository();
   }
 
   @FXML
@@ -70,42 +69,58 @@ public class AuthorizationController {
       String loginPassword = passwordField.getText().trim();
 
       if (!loginText.isEmpty() && !loginPassword.isEmpty()) {
-        try {
-          // Перевірка логіну та пароля користувача
-          User user = userRepository.findByUsername(loginText);
-          if (user != null) {
-            // Хешування введеного пароля
-            String hashedPassword = PasswordHashing.getInstance().hashedPassword(loginPassword);
-            if (user.password().equals(hashedPassword)) {
-              AuthenticatedUser.getInstance().setCurrentUser(user);
-              authSingUpButton.getScene().getWindow().hide();
-              try {
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/main_menu.fxml"));
-                Parent root = loader.load();
-                Stage stage = new Stage();
-                // Додаємо іконку, якщо вона існує
-                try {
-                  stage.getIcons().add(new Image(getClass().getResourceAsStream("/images/burger.png")));
-                } catch (Exception iconException) {
-                  System.err.println("Не вдалося завантажити іконку: " + iconException.getMessage());
-                }
-                stage.setScene(new Scene(root));
-                stage.initStyle(StageStyle.UNDECORATED);
-                stage.showAndWait();
-              } catch (IOException ioException) {
-                ioException.printStackTrace();
-                AlertController.showAlert("Помилка завантаження головного меню: " + ioException.getMessage());
+        // Пошук користувача виконується у фоні; null - логін або пароль не збігаються
+        authSingUpButton.setDisable(true);
+        FxDataAccess.run(authSingUpButton, () -> authenticate(loginText, loginPassword),
+            user -> {
+              authSingUpButton.setDisable(false);
+              if (user != null) {
+                openMainMenu(user);
+              } else {
+                AlertController.showAlert("Неправильний логін або пароль");
               }
-            } else {
-              AlertController.showAlert("Неправильний логін або пароль");
-            }
-          }
-        } catch (EntityNotFoundException e) {
-          AlertController.showAlert("Неправильний логін або пароль");
-        }
+            },
+            error -> {
+              authSingUpButton.setDisable(false);
+              AlertController.showAlert("Помилка під час входу: " + error.getMessage());
+            });
       } else {
         AlertController.showAlert("Будь ласка, введіть логін та пароль");
       }
     });
   }
-}
\ No newline at end of file
+
+  // Виконується поза потоком JavaFX
+  private User authenticate(String loginText, String loginPassword) {
+    try {
+      User user = userRepository.findByUsername(loginText);
+      // Хешування введеного пароля
+      String hashedPassword = PasswordHashing.getInstance().hashedPassword(loginPassword);
+      if (user == null || !user.password().equals(hashedPassword)) {
+        return null;
+      }
+      // Незамовлені рядки з БД потрапляють у кошик сесії тут, у фоні, а не при першому додаванні
+      SessionCart.getInstance().load(user.userId());
+      return user;
+    } catch (EntityNotFoundException e) {
+      return null;
+    }
+  }
+
+  private void openMainMenu(User user) {
+    AuthenticatedUser.getInstance().setCurrentUser(user);
+    authSingUpButton.getScene().getWindow().hide();
+    try {
+      FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/main_menu.fxml"));
+      Parent root = loader.load();
+      Stage stage = new Stage();
+      ImageCache.getInstance().addStageIcon(stage);
+      stage.setScene(new Scene(root));
+      stage.initStyle(StageStyle.UNDECORATED);
+      stage.showAndWait();
+    } catch (IOException ioException) {
+      ioException.printStackTrace();
+      AlertController.showAlert("Помилка завантаження головного меню: " + ioException.getMessage());
+    }
+  }
+}
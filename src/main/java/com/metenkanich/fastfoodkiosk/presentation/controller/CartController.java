@@ -1,26 +1,26 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
 import com.metenkanich.fastfoodkiosk.domain.security.AuthenticatedUser;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.domain.service.MenuCatalog;
+import com.metenkanich.fastfoodkiosk.domain.service.Repositories;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
 import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
-import com.metenkanich.fastfoodkiosk.persistence.entity.Payment;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
-import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentStatus;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CheckoutRepository;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.OrderRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.PaymentRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
 import com.metenkanich.fastfoodkiosk.presentation.validation.CartValidator;
 import com.metenkanich.fastfoodkiosk.presentation.validation.OrderValidator;
 import com.metenkanich.fastfoodkiosk.presentation.validation.ValidationResult;
+import com.metenkanich.fastfoodkiosk.presentation.view.RefreshableView;
 import java.time.LocalDateTime;
-import java.util.UUID;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Button;
@@ -32,12 +32,10 @@ import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.GridPane;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
-import javax.sql.DataSource;
+import java.util.concurrent.CompletableFuture;
 
-public class CartController {
+public class CartController implements RefreshableView {
 
     @FXML
     private Label cartLabel;
@@ -57,18 +55,17 @@ public class CartController {
     @FXML
     private ComboBox<PaymentMethod> paymentMethodComboBox;
 
-    private CartRepositoryImpl cartRepository;
-    private MenuItemRepository menuItemRepository;
-    private OrderRepositoryImpl orderRepository;
-    private PaymentRepositoryImpl paymentRepository;
+    private final CartRepository cartRepository;
+    private final CheckoutRepository checkoutRepository;
+    private final MenuItemRepository menuItemRepository = MenuCatalog.getInstance().getMenuItemRepository();
+    private final SessionCart sessionCart = SessionCart.getInstance();
     private List<Cart> cartItems;
+    private CompletableFuture<List<Cart>> pendingLoad;
+    private CompletableFuture<Order> pendingCheckout;
 
     public CartController() {
-        DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-        this.cartRepository = new CartRepositoryImpl(dataSource);
-        this.menuItemRepository = new MenuItemRepositoryImpl(dataSource);
-        this.orderRepository = new OrderRepositoryImpl(dataSource);
-        this.paymentRepository = new PaymentRepositoryImpl(dataSource);
+        this.cartRepository = Repositories.getInstance().getCartRepository();
+        this.checkoutRepository = Repositories.getInstance().getCheckoutRepository();
     }
 
     @FXML
@@ -87,21 +84,39 @@ public class CartController {
         loadCartItems();
     }
 
+    // Кошик міг змінитися в меню, поки розділ був прихований
+    @Override
+    public void refresh() {
+        placeOrderButton.setDisable(isCheckoutInFlight());
+        loadCartItems();
+    }
+
     public void loadCartItems() {
         User currentUser = AuthenticatedUser.getInstance().getCurrentUser();
         if (currentUser == null) {
             cartLabel.setText("Будь ласка, увійдіть у систему");
-            updateTotalAmount(0.0);
+            updateTotalAmount(0);
             return;
         }
 
-        cartItems = cartRepository.findUnorderedByUserId(currentUser.id());
+        // Перше звернення до кошика користувача підтягує його незамовлені рядки з БД
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
+        }
+        pendingLoad = FxDataAccess.run(cartGridPane,
+            () -> sessionCart.getItems(currentUser.id()),
+            items -> showCartItems(currentUser, items),
+            error -> cartLabel.setText("Помилка завантаження кошика: " + error.getMessage()));
+    }
+
+    private void showCartItems(User currentUser, List<Cart> items) {
+        cartItems = items;
         cartGridPane.getChildren().clear();
 
         if (cartItems == null || cartItems.isEmpty()) {
             cartLabel.setText("Наразі Ваш кошик порожній");
             cartScrollPane.setVisible(false);
-            updateTotalAmount(0.0);
+            updateTotalAmount(0);
             return;
         } else {
             cartLabel.setText("");
@@ -111,7 +126,6 @@ public class CartController {
         int column = 0;
         int row = 0;
         int cardsPerRow = 1;
-        double totalAmount = 0.0;
 
         cartGridPane.getColumnConstraints().clear();
         cartGridPane.setHgap(10);
@@ -123,24 +137,13 @@ public class CartController {
         }
 
         for (Cart cartItem : cartItems) {
-            if (cartItem == null) {
-                cartLabel.setText("Помилка: Один із елементів кошика має невалідний формат.");
-                continue;
-            }
-
             MenuItem menuItem;
             try {
                 menuItem = menuItemRepository.findById(cartItem.itemId());
-                if (menuItem == null) {
-                    cartLabel.setText("Помилка: Один із елементів кошика не знайдено.");
-                    continue;
-                }
             } catch (EntityNotFoundException e) {
                 continue;
             }
 
-            totalAmount += cartItem.subtotal();
-
             try {
                 FXMLLoader loader = new FXMLLoader(getClass().getResource(
                     "/view/cart_item_card.fxml"));
@@ -162,16 +165,19 @@ public class CartController {
             }
         }
 
-        updateTotalAmount(totalAmount);
+        updateTotalAmount(sessionCart.getTotal(currentUser.id()));
     }
 
-    private void updateTotalAmount(double totalAmount) {
+    private void updateTotalAmount(long totalAmount) {
         if (totalAmountLabel != null) {
-            totalAmountLabel.setText(String.format("Загальна сума: %.2f грн", totalAmount));
+            totalAmountLabel.setText("Загальна сума: " + Money.format(totalAmount) + " грн");
         }
     }
 
     private void placeOrder() {
+        if (isCheckoutInFlight()) {
+            return;
+        }
         User currentUser = AuthenticatedUser.getInstance().getCurrentUser();
         if (currentUser == null) {
             AlertController.showAlert("Будь ласка, увійдіть у систему");
@@ -198,13 +204,10 @@ public class CartController {
             return;
         }
 
-        BigDecimal totalPrice = cartItems.stream()
-            .map(Cart::subtotal)
-            .map(BigDecimal::valueOf)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        List<UUID> cartIds = cartItems.stream()
-            .map(Cart::cartId)
-            .collect(Collectors.toList());
+        long totalPrice = 0;
+        for (Cart cartItem : cartItems) {
+            totalPrice = Math.addExact(totalPrice, cartItem.subtotal());
+        }
 
         Order order = new Order(
             null,
@@ -220,40 +223,45 @@ public class CartController {
             return;
         }
 
-        Order createdOrder = orderRepository.create(order);
-        if (createdOrder != null) {
-            boolean allPaymentsCreated = true;
-            for (Cart cartItem : cartItems) {
-                Payment payment = new Payment(
-                    null,
-                    cartItem.cartId(),
-                    selectedPaymentMethod,
-                    PaymentStatus.PENDING,
-                    LocalDateTime.now()
-                );
-
-                Payment createdPayment = paymentRepository.create(payment);
-                if (createdPayment == null) {
-                    allPaymentsCreated = false;
-                    break;
+        // Замовлення, платежі та позначка "замовлено" зберігаються однією транзакцією.
+        // Замовлені рядки прибираються з кошика в тому ж фоновому завданні, а страви, додані
+        // під час оформлення, лишаються в ньому. Оформлення не прив'язане до сцени:
+        // результат показується, навіть якщо покупець тим часом відкрив інший розділ
+        List<Cart> orderedItems = cartItems;
+        placeOrderButton.setDisable(true);
+        pendingCheckout = FxDataAccess.submit(
+            () -> {
+                Order createdOrder = checkoutRepository.placeOrder(order, orderedItems, selectedPaymentMethod);
+                if (createdOrder != null) {
+                    sessionCart.removeOrdered(currentUser.id(), orderedItems);
                 }
-            }
+                return createdOrder;
+            },
+            createdOrder -> {
+                placeOrderButton.setDisable(false);
+                onOrderPlaced(createdOrder, selectedPaymentMethod);
+            },
+            error -> {
+                placeOrderButton.setDisable(false);
+                AlertController.showAlert("Помилка при створенні замовлення: " + error.getMessage());
+            });
+    }
 
-            if (allPaymentsCreated) {
-                // Позначаємо елементи кошика як замовлені
-                cartRepository.markCartItemsAsOrdered(cartIds);
-                paymentMethodComboBox.setValue(PaymentMethod.CASH);
+    private boolean isCheckoutInFlight() {
+        return pendingCheckout != null && !pendingCheckout.isDone();
+    }
 
-                // Вибір повідомлення залежно від способу оплати
-                String successMessage = selectedPaymentMethod == PaymentMethod.CARD
-                    ? "Замовлення успішно оформлено!\nБудь ласка, прикладіть картку до терміналу."
-                    : "Замовлення успішно оформлено!\nБудь ласка, підійдіть до каси для оплати.";
-                AlertController.showAlert(successMessage);
+    private void onOrderPlaced(Order createdOrder, PaymentMethod selectedPaymentMethod) {
+        if (createdOrder != null) {
+            paymentMethodComboBox.setValue(PaymentMethod.CASH);
 
-                loadCartItems();
-            } else {
-                AlertController.showAlert("Помилка при створенні оплати");
-            }
+            // Вибір повідомлення залежно від способу оплати
+            String successMessage = selectedPaymentMethod == PaymentMethod.CARD
+                ? "Замовлення успішно оформлено!\nБудь ласка, прикладіть картку до терміналу."
+                : "Замовлення успішно оформлено!\nБудь ласка, підійдіть до каси для оплати.";
+            AlertController.showAlert(successMessage);
+
+            loadCartItems();
         } else {
             AlertController.showAlert("Помилка при створенні замовлення");
         }
@@ -1,21 +1,19 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
-import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
 import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import java.io.IOException;
-import javax.sql.DataSource;
 
 public class CartItemCard {
 
@@ -37,12 +35,7 @@ public class CartItemCard {
     private Cart cartItem;
     private MenuItem menuItem;
     private CartController parentController; // Посилання на CartController для оновлення кошика
-    private CartRepositoryImpl cartRepository;
-
-    public CartItemCard() {
-        DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-        this.cartRepository = new CartRepositoryImpl(dataSource);
-    }
+    private final SessionCart sessionCart = SessionCart.getInstance();
 
     public void setCartItem(Cart cartItem, MenuItem menuItem) {
         this.cartItem = cartItem;
@@ -52,14 +45,14 @@ public class CartItemCard {
             menuItemName.setText(menuItem.name());
         }
         if (menuItemPrice != null) {
-            menuItemPrice.setText(String.format("%.2f грн", cartItem.subtotal()));
+            menuItemPrice.setText(Money.format(cartItem.subtotal()) + " грн");
         }
         if (quantityLabel != null) {
             quantityLabel.setText("Кількість: " + cartItem.quantity());
         }
 
         // Встановлення зображення
-        setItemImage(menuItem.imagePath(), menuItem.name());
+        setItemImage(menuItem.imagePath());
 
         // Налаштування кнопки видалення
         if (deleteFromCartButton != null) {
@@ -67,38 +60,8 @@ public class CartItemCard {
         }
     }
 
-    private void setItemImage(String imagePath, String itemName) {
-        if (imagePath != null && !imagePath.trim().isEmpty()) {
-            try {
-                Image image = new Image(getClass().getResourceAsStream(imagePath));
-                if (!image.isError()) {
-                    menuImage.setImage(image);
-                } else {
-                    System.err.println("Помилка завантаження зображення для страви: " + itemName + " з шляху: " + imagePath);
-                    setDefaultItemImage(itemName);
-                }
-            } catch (Exception e) {
-                System.err.println("Помилка завантаження зображення для страви: " + itemName + " з шляху: " + imagePath + ": " + e.getMessage());
-                setDefaultItemImage(itemName);
-            }
-        } else {
-            setDefaultItemImage(itemName);
-        }
-    }
-
-    private void setDefaultItemImage(String itemName) {
-        try {
-            Image defaultImage = new Image(getClass().getResourceAsStream("/images/fast-food.jpg"));
-            if (!defaultImage.isError()) {
-                menuImage.setImage(defaultImage);
-            } else {
-                System.err.println("Помилка завантаження дефолтного зображення для страви: " + itemName);
-                menuImage.setImage(null);
-            }
-        } catch (Exception e) {
-            System.err.println("Помилка завантаження дефолтного зображення для страви: " + itemName + ": " + e.getMessage());
-            menuImage.setImage(null);
-        }
+    private void setItemImage(String imagePath) {
+        ImageCache.getInstance().show(menuImage, imagePath, ImageCache.MENU_ITEM_FALLBACK);
     }
 
     public void setParentController(CartController controller) {
@@ -107,14 +70,11 @@ public class CartItemCard {
 
     @FXML
     private void deleteFromCart() {
-        try {
-            cartRepository.deleteById(cartItem.cartId());
-            if (parentController != null) {
-                parentController.loadCartItems();
-            }
-        } catch (EntityNotFoundException e) {
-            System.err.println("Помилка видалення з кошика: " + e.getMessage());
-            e.printStackTrace();
+        if (!sessionCart.remove(cartItem.userId(), cartItem.itemId())) {
+            System.err.println("Помилка видалення з кошика: елемент " + cartItem.cartId() + " не знайдено");
+        }
+        if (parentController != null) {
+            parentController.loadCartItems();
         }
     }
 }
\ No newline at end of file
@@ -1,27 +1,27 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.domain.service.MenuCatalog;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CategoryRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
 import com.metenkanich.fastfoodkiosk.presentation.validation.CategoryValidator;
 import com.metenkanich.fastfoodkiosk.presentation.validation.ValidationResult;
+import com.metenkanich.fastfoodkiosk.presentation.view.RefreshableView;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.FileChooser;
-import javax.sql.DataSource;
 import java.io.File;
-import java.io.InputStream;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-public class CategoryController {
+public class CategoryController implements RefreshableView {
 
     @FXML
     private TextField nameField;
@@ -44,16 +44,15 @@ public class CategoryController {
     @FXML
     private ImageView imagePreview;
 
-    private CategoryRepositoryImpl categoryRepository;
+    private CategoryRepository categoryRepository;
     private ObservableList<Category> categoriesList;
     private Category selectedCategory;
+    private CompletableFuture<List<Category>> pendingLoad;
     private String selectedImagePath;
-    private final Map<String, Image> imageCache = new HashMap<>();
-    private static final String DEFAULT_IMAGE_PATH = "/images/categories/category.png";
+    private static final String DEFAULT_IMAGE_PATH = ImageCache.CATEGORY_FALLBACK;
 
     public CategoryController() {
-        DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-        this.categoryRepository = new CategoryRepositoryImpl(dataSource);
+        this.categoryRepository = MenuCatalog.getInstance().getCategoryRepository();
         this.categoriesList = FXCollections.observableArrayList();
         this.selectedImagePath = DEFAULT_IMAGE_PATH;
     }
@@ -80,7 +79,7 @@ public class CategoryController {
                 deleteButton.setDisable(newValue == null);
             });
 
-        setDefaultCategoryImage(imagePreview, "");
+        updateImagePreview();
     }
 
     private void chooseImage() {
@@ -96,17 +95,26 @@ public class CategoryController {
         }
     }
 
+    @Override
+    public void refresh() {
+        searchTextField.clear();
+        clearFields();
+        loadCategories();
+    }
+
     private void loadCategories() {
-        try {
-            List<Category> categories = categoryRepository.findAll();
-            categoriesList.setAll(categories);
-            categoryTable.setItems(categoriesList);
-            if (categoriesList.isEmpty()) {
-                categoryTable.setPlaceholder(new Label("Немає категорій"));
-            }
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при завантаженні категорій: " + e.getMessage());
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
         }
+        pendingLoad = FxDataAccess.run(categoryTable, categoryRepository::findAll,
+            categories -> {
+                categoriesList.setAll(categories);
+                categoryTable.setItems(categoriesList);
+                if (categoriesList.isEmpty()) {
+                    categoryTable.setPlaceholder(new Label("Немає категорій"));
+                }
+            },
+            error -> AlertController.showAlert("Помилка при завантаженні категорій: " + error.getMessage()));
     }
 
     private void searchCategories(String searchText) {
@@ -154,14 +162,23 @@ public class CategoryController {
                 return;
             }
 
-            Category savedCategory = categoryRepository.create(category);
-            if (savedCategory != null) {
-                loadCategories();
-                clearFields();
-                AlertController.showAlert("Категорію успішно додано!");
-            } else {
-                AlertController.showAlert("Не вдалося зберегти категорію. Спробуйте ще раз.");
-            }
+            addButton.setDisable(true);
+            FxDataAccess.submit(() -> categoryRepository.create(category),
+                savedCategory -> {
+                    addButton.setDisable(false);
+                    if (savedCategory != null) {
+                        ImageCache.getInstance().prepareCategoryThumbnails(savedCategory.imagePath());
+                        loadCategories();
+                        clearFields();
+                        AlertController.showAlert("Категорію успішно додано!");
+                    } else {
+                        AlertController.showAlert("Не вдалося зберегти категорію. Спробуйте ще раз.");
+                    }
+                },
+                error -> {
+                    addButton.setDisable(false);
+                    AlertController.showAlert("Помилка при додаванні категорії: " + error.getMessage());
+                });
         } catch (Exception e) {
             AlertController.showAlert("Помилка при додаванні категорії: " + e.getMessage());
         }
@@ -200,14 +217,23 @@ public class CategoryController {
                 return;
             }
 
-            Category savedCategory = categoryRepository.update(updatedCategory);
-            if (savedCategory != null) {
-                loadCategories();
-                clearFields();
-                AlertController.showAlert("Категорію успішно оновлено!");
-            } else {
-                AlertController.showAlert("Не вдалося оновити категорію. Спробуйте ще раз.");
-            }
+            editButton.setDisable(true);
+            FxDataAccess.submit(() -> categoryRepository.update(updatedCategory),
+                savedCategory -> {
+                    if (savedCategory != null) {
+                        ImageCache.getInstance().prepareCategoryThumbnails(savedCategory.imagePath());
+                        loadCategories();
+                        clearFields();
+                        AlertController.showAlert("Категорію успішно оновлено!");
+                    } else {
+                        editButton.setDisable(false);
+                        AlertController.showAlert("Не вдалося оновити категорію. Спробуйте ще раз.");
+                    }
+                },
+                error -> {
+                    editButton.setDisable(false);
+                    AlertController.showAlert("Помилка при редагуванні категорії: " + error.getMessage());
+                });
         } catch (Exception e) {
             AlertController.showAlert("Помилка при редагуванні категорії: " + e.getMessage());
         }
@@ -219,16 +245,26 @@ public class CategoryController {
             return;
         }
 
-        try {
-            categoryRepository.deleteById(selectedCategory.categoryId());
-            loadCategories();
-            clearFields();
-            AlertController.showAlert("Категорію успішно видалено!");
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Категорію не знайдено в базі даних");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при видаленні категорії: " + e.getMessage());
-        }
+        UUID categoryId = selectedCategory.categoryId();
+        deleteButton.setDisable(true);
+        FxDataAccess.submit(
+            () -> {
+                categoryRepository.deleteById(categoryId);
+                return null;
+            },
+            ignored -> {
+                loadCategories();
+                clearFields();
+                AlertController.showAlert("Категорію успішно видалено!");
+            },
+            error -> {
+                deleteButton.setDisable(false);
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Категорію не знайдено в базі даних");
+                } else {
+                    AlertController.showAlert("Помилка при видаленні категорії: " + error.getMessage());
+                }
+            });
     }
 
     private void clearFields() {
@@ -237,7 +273,7 @@ public class CategoryController {
         selectedImagePath = DEFAULT_IMAGE_PATH;
         editButton.setDisable(true);
         deleteButton.setDisable(true);
-        setDefaultCategoryImage(imagePreview, "");
+        updateImagePreview();
     }
 
     private void populateFields(Category category) {
@@ -251,82 +287,6 @@ public class CategoryController {
     }
 
     private void updateImagePreview() {
-        String imagePath = selectedImagePath;
-        if (imagePath == null || imagePath.isEmpty()) {
-            setDefaultCategoryImage(imagePreview, "");
-        } else {
-            loadCategoryImage(imagePreview, imagePath, "");
-        }
-    }
-
-    private void loadCategoryImage(ImageView imageView, String imagePath, String categoryName) {
-        if (imagePath != null && !imagePath.trim().isEmpty()) {
-            Image image = imageCache.computeIfAbsent(imagePath, path -> {
-                try {
-                    if (path.startsWith("/images/categories/")) {
-                        InputStream inputStream = getClass().getResourceAsStream(path);
-                        if (inputStream == null) {
-                            System.err.println("Resource not found: " + path);
-                            return null;
-                        }
-                        Image resourceImage = new Image(inputStream, 0, 0, true, true);
-                        if (!resourceImage.isError()) {
-                            return resourceImage;
-                        }
-                    }
-                    File file = new File(path);
-                    if (file.exists() && file.isFile()) {
-                        return new Image("file:" + path, 0, 0, true, true);
-                    } else {
-                        System.err.println("File not found or inaccessible: " + path);
-                        return null;
-                    }
-                } catch (Exception e) {
-                    System.err.println("Помилка завантаження зображення з шляху: " + path + ", error: " + e.getMessage());
-                    return null;
-                }
-            });
-
-            if (image != null && !image.isError()) {
-                imageView.setImage(image);
-            } else {
-                System.err.println("Помилка завантаження зображення для категорії: " + categoryName + " з шляху: " + imagePath);
-                setDefaultCategoryImage(imageView, categoryName);
-            }
-        } else {
-            setDefaultCategoryImage(imageView, categoryName);
-        }
-    }
-
-    private void setDefaultCategoryImage(ImageView imageView, String categoryName) {
-        try {
-            Image defaultImage = imageCache.computeIfAbsent(DEFAULT_IMAGE_PATH, path -> {
-                try {
-                    InputStream inputStream = getClass().getResourceAsStream(path);
-                    if (inputStream == null) {
-                        System.err.println("Default image resource not found: " + path);
-                        return null;
-                    }
-                    Image image = new Image(inputStream, 0, 0, true, true);
-                    if (image.isError()) {
-                        throw new IllegalStateException("Default image is invalid: " + path);
-                    }
-                    return image;
-                } catch (Exception e) {
-                    System.err.println("Помилка завантаження зображення за замовчуванням: " + path + ", error: " + e.getMessage());
-                    return null;
-                }
-            });
-
-            if (defaultImage != null && !defaultImage.isError()) {
-                imageView.setImage(defaultImage);
-            } else {
-                System.err.println("Не вдалося встановити зображення за замовчуванням для категорії: " + categoryName);
-                imageView.setImage(null);
-            }
-        } catch (Exception e) {
-            System.err.println("Помилка встановлення зображення за замовчуванням для категорії: " + categoryName + ", error: " + e.getMessage());
-            imageView.setImage(null);
-        }
+        ImageCache.getInstance().show(imagePreview, selectedImagePath, DEFAULT_IMAGE_PATH);
     }
 }
\ No newline at end of file
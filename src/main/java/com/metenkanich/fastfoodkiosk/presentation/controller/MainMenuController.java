@@ -3,13 +3,14 @@ package com.metenkanich.fastfoodkiosk.presentation.controller;
 import com.metenkanich.fastfoodkiosk.domain.security.AuthenticatedUser;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.Role;
+import com.metenkanich.fastfoodkiosk.presentation.view.ViewRegistry;
 import java.io.IOException;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javafx.animation.TranslateTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.layout.StackPane;
@@ -18,6 +19,17 @@ import javafx.util.Duration;
 
 public class MainMenuController {
 
+    private static final String MENU_VIEW = "/view/menu.fxml";
+    private static final String CART_VIEW = "/view/cart.fxml";
+    private static final String USERS_VIEW = "/view/user_management.fxml";
+    private static final String PAYMENT_VIEW = "/view/payment.fxml";
+    private static final String CATEGORY_VIEW = "/view/category.fxml";
+    private static final String MENU_ITEMS_VIEW = "/view/menu_item.fxml";
+    private static final String ORDERS_VIEW = "/view/orders.fxml";
+    private static final List<String> CUSTOMER_VIEWS = List.of(CART_VIEW);
+    private static final List<String> ADMIN_VIEWS = List.of(
+        CART_VIEW, ORDERS_VIEW, MENU_ITEMS_VIEW, CATEGORY_VIEW, PAYMENT_VIEW, USERS_VIEW);
+
     @FXML
     private StackPane contentArea;
 
@@ -51,11 +63,13 @@ public class MainMenuController {
     @FXML
     private Button menuButton;
     private Stage stage;
+    private ViewRegistry viewRegistry;
     private double xOffset = 0;
     private double yOffset = 0;
 
     @FXML
     void initialize() {
+        viewRegistry = new ViewRegistry(contentArea);
         closeButton.setOnAction(event -> System.exit(0));
         minimazeButton.setOnAction(event -> minimizeWindow());
         cartButton.setOnAction(event -> showCartPage());
@@ -79,6 +93,9 @@ public class MainMenuController {
             ordersButton.setVisible(false);
             paymentButton.setVisible(false);
         }
+
+        // Решта розділів розбирається у вільні моменти, щоб перший перехід до них був миттєвим
+        viewRegistry.preloadLater(currentUser.role() == Role.ADMIN ? ADMIN_VIEWS : CUSTOMER_VIEWS);
     }
 
     private void moveStackPane(Button button) {
@@ -91,10 +108,7 @@ public class MainMenuController {
 
     private void loadFXML(String fxmlFileName) {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlFileName));
-            Parent fxml = loader.load();
-            contentArea.getChildren().clear();
-            contentArea.getChildren().add(fxml);
+            viewRegistry.show(fxmlFileName);
         } catch (IOException ex) {
             Logger.getLogger(MainMenuController.class.getName()).log(Level.SEVERE, null, ex);
         }
@@ -102,47 +116,40 @@ public class MainMenuController {
 
     private void showMenuPage() {
         moveStackPane(menuButton);
-        loadFXML("/view/menu.fxml");
+        loadFXML(MENU_VIEW);
     }
 
     private void showCartPage() {
         moveStackPane(cartButton);
-        loadFXML("/view/cart.fxml");
+        loadFXML(CART_VIEW);
     }
 
     private void showUsersPage() {
         moveStackPane(usersButton);
-        loadFXML("/view/user_management.fxml");
+        loadFXML(USERS_VIEW);
     }
 
     private void showPaymentPage() {
         moveStackPane(paymentButton);
-        loadFXML("/view/payment.fxml");
+        loadFXML(PAYMENT_VIEW);
     }
 
     private void showCategoryPage() {
         moveStackPane(categoryButton);
-        loadFXML("/view/category.fxml");
+        loadFXML(CATEGORY_VIEW);
     }
 
     private void showMenuItemsPage() {
         moveStackPane(menuItemsButton);
-        loadFXML("/view/menu_item.fxml");
+        loadFXML(MENU_ITEMS_VIEW);
     }
     private void showOrdersPage() {
         moveStackPane(ordersButton);
-        loadFXML("/view/orders.fxml");
+        loadFXML(ORDERS_VIEW);
     }
 
     private void showMenu() {
-        try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/menu.fxml"));
-            Parent menuPane = loader.load();
-            contentArea.getChildren().clear();
-            contentArea.getChildren().add(menuPane);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        loadFXML(MENU_VIEW);
     }
 
     private void minimizeWindow() {
@@ -1,25 +1,23 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
 import com.metenkanich.fastfoodkiosk.domain.security.AuthenticatedUser;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
-import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
+import com.metenkanich.fastfoodkiosk.domain.service.CatalogItem;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
 import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.text.Text;
 
-import java.math.BigDecimal;
-import java.util.UUID;
-
 public class MenuItemCardController {
 
     @FXML
@@ -42,12 +40,11 @@ public class MenuItemCardController {
     @FXML
     private Spinner<Integer> quantity;
 
+    // Страва разом із рядком таблиці цін каталогу, визначеним під час побудови знімка
+    private CatalogItem currentItem;
     private MenuItem currentMenuItem;
-    private CartRepositoryImpl cartRepository;
-
-    public MenuItemCardController() {
-        this.cartRepository = new CartRepositoryImpl(DatabaseConnection.getInstance().getDataSource());
-    }
+    private final SessionCart sessionCart = SessionCart.getInstance();
+    private final ImageCache imageCache = ImageCache.getInstance();
 
     @FXML
     private void initialize() {
@@ -61,14 +58,28 @@ public class MenuItemCardController {
         if (addToCartButton != null) {
             addToCartButton.setOnAction(event -> addToCart());
         }
+
+        // Список розмірів і відображення однакові для всіх страв, тож налаштовуються один раз
+        portionSizeComboBox.getItems().setAll(PortionSize.values());
+        portionSizeComboBox.setCellFactory(listView -> new PortionSizeCell());
+        portionSizeComboBox.setButtonCell(new PortionSizeCell());
+        portionSizeComboBox.setOnAction(event -> updatePrice());
     }
 
-    public void setMenuItem(MenuItem menuItem) {
+    // Для повторно показаної картки тієї самої страви лише скидає вибір порції та кількості
+    public void showMenuItem(CatalogItem catalogItem) {
+        if (catalogItem.equals(currentItem)) {
+            resetSelection();
+        } else {
+            setMenuItem(catalogItem);
+        }
+    }
+
+    public void setMenuItem(CatalogItem catalogItem) {
+        MenuItem menuItem = catalogItem.menuItem();
+        this.currentItem = catalogItem;
         this.currentMenuItem = menuItem;
 
-        if (cartRepository == null) {
-            cartRepository = new CartRepositoryImpl(DatabaseConnection.getInstance().getDataSource());
-        }
         itemName.setText(menuItem.name());
         if (menuItem.description() != null && !menuItem.description().trim().isEmpty()) {
             itemDescription.setText(menuItem.description());
@@ -77,41 +88,9 @@ public class MenuItemCardController {
             itemDescription.setVisible(false);
         }
 
-        portionSizeComboBox.getItems().clear();
-        portionSizeComboBox.getItems().addAll(PortionSize.values());
-
-        PortionSize defaultSize = menuItem.defaultPortionSize() != null ? menuItem.defaultPortionSize() : PortionSize.MEDIUM;
-        portionSizeComboBox.setValue(defaultSize);
-
-        portionSizeComboBox.setCellFactory(listView -> new javafx.scene.control.ListCell<PortionSize>() {
-            @Override
-            protected void updateItem(PortionSize item, boolean empty) {
-                super.updateItem(item, empty);
-                if (empty || item == null) {
-                    setText(null);
-                } else {
-                    setText(item.getDisplayName());
-                }
-            }
-        });
+        resetSelection();
 
-        portionSizeComboBox.setButtonCell(new javafx.scene.control.ListCell<PortionSize>() {
-            @Override
-            protected void updateItem(PortionSize item, boolean empty) {
-                super.updateItem(item, empty);
-                if (empty || item == null) {
-                    setText(null);
-                } else {
-                    setText(item.getDisplayName());
-                }
-            }
-        });
-
-        portionSizeComboBox.setOnAction(event -> updatePrice());
-
-        updatePrice();
-
-        setItemImage(menuItem.imagePath(), menuItem.name());
+        setItemImage(menuItem.imagePath());
 
         if (menuItem.isAvailable() != null && menuItem.isAvailable()) {
             itemName.getParent().getStyleClass().remove("unavailable");
@@ -126,82 +105,25 @@ public class MenuItemCardController {
             portionSizeComboBox.setDisable(true);
             quantity.setDisable(true);
         }
-
-        addToCartButton.setOnAction(event -> {
-            addToCart();
-        });
     }
 
-    private void setItemImage(String imagePath, String itemName) {
-        if (imagePath != null && !imagePath.trim().isEmpty()) {
-            try {
-                java.net.URL resourceUrl = getClass().getResource(imagePath);
-                if (resourceUrl != null) {
-                    Image image = new Image(resourceUrl.toExternalForm(), true);
-                    itemImage.setImage(image);
-
-                    image.errorProperty().addListener((obs, oldError, newError) -> {
-                        if (newError) {
-                            System.err.println("Помилка фонового завантаження зображення для страви: " + itemName + " з шляху: " + imagePath);
-                            setDefaultItemImage(itemName);
-                        }
-                    });
-                } else {
-                    java.io.File imageFile = new java.io.File(imagePath);
-                    if (imageFile.exists() && imageFile.isFile()) {
-                        Image image = new Image(imageFile.toURI().toString(), true);
-                        itemImage.setImage(image);
-
-                        image.errorProperty().addListener((obs, oldError, newError) -> {
-                            if (newError) {
-                                System.err.println("Помилка фонового завантаження зображення файлу для страви: " + itemName + " з шляху: " + imagePath);
-                                setDefaultItemImage(itemName);
-                            }
-                        });
-                    } else {
-                        System.err.println("Зображення не знайдено ні як ресурс, ні як файл: " + imagePath + " для страви: " + itemName);
-                        setDefaultItemImage(itemName);
-                    }
-                }
-            } catch (Exception e) {
-                System.err.println("Помилка створення шляху до зображення: " + itemName + " з шляху: " + imagePath + ": " + e.getMessage());
-                setDefaultItemImage(itemName);
-            }
-        } else {
-            setDefaultItemImage(itemName);
-        }
+    private void resetSelection() {
+        PortionSize defaultSize = currentMenuItem.defaultPortionSize() != null
+            ? currentMenuItem.defaultPortionSize()
+            : PortionSize.MEDIUM;
+        portionSizeComboBox.setValue(defaultSize);
+        quantity.getValueFactory().setValue(1);
+        updatePrice();
     }
 
-    private void setDefaultItemImage(String itemName) {
-        try {
-            String defaultImagePath = "/images/fast-food.jpg";
-            // Перевіряємо, чи існує ресурс перед використанням
-            java.net.URL resourceUrl = getClass().getResource(defaultImagePath);
-            if (resourceUrl != null) {
-                Image defaultImage = new Image(resourceUrl.toExternalForm(), true);
-                itemImage.setImage(defaultImage);
-
-                defaultImage.errorProperty().addListener((obs, oldError, newError) -> {
-                    if (newError) {
-                        System.err.println("Помилка фонового завантаження дефолтного зображення для страви: " + itemName);
-                        itemImage.setImage(null);
-                    }
-                });
-            } else {
-                System.err.println("Дефолтне зображення не знайдено: " + defaultImagePath + " для страви: " + itemName);
-                itemImage.setImage(null);
-            }
-        } catch (Exception e) {
-            System.err.println("Помилка створення шляху до дефолтного зображення: " + itemName + ": " + e.getMessage());
-            itemImage.setImage(null);
-        }
+    private void setItemImage(String imagePath) {
+        imageCache.show(itemImage, imagePath, ImageCache.MENU_ITEM_FALLBACK);
     }
 
     private void updatePrice() {
         if (currentMenuItem != null && portionSizeComboBox.getValue() != null) {
             PortionSize selectedSize = portionSizeComboBox.getValue();
-            BigDecimal finalPrice = currentMenuItem.getPriceForSize(selectedSize);
-            itemPrice.setText(String.format("%.2f грн", finalPrice));
+            itemPrice.setText(currentItem.priceLabel(selectedSize));
         }
     }
 
@@ -241,33 +163,27 @@ public class MenuItemCardController {
             return;
         }
 
-        if (cartRepository.existsByUserIdAndItemId(currentUser.id(), currentMenuItem.itemId())) {
-            AlertController.showAlert("Цей товар вже є у вашому кошику");
-            return;
-        }
-
         try {
             PortionSize selectedSize = portionSizeComboBox.getValue();
-            BigDecimal pricePerItem = currentMenuItem.getPriceForSize(selectedSize);
-            double subtotal = pricePerItem.doubleValue() * qty;
+            long subtotal = Money.times(currentItem.price(selectedSize), qty);
 
-            Cart cartItem = new Cart(
-                UUID.randomUUID(),
-                currentUser.id(),
-                currentMenuItem.itemId(),
-                qty,
-                subtotal,
-                false
-            );
+            // Кошик зберігається в пам'яті сесії; повторне додавання збільшує кількість
+            sessionCart.add(currentUser.id(), currentMenuItem.itemId(), qty, subtotal);
+            AlertController.showAlert("Товар додано до кошика");
+        } catch (Exception e) {
+            AlertController.showAlert("Помилка додавання до кошика: " + e.getMessage());
+        }
+    }
 
-            Cart savedCartItem = cartRepository.create(cartItem);
-            if (savedCartItem != null) {
-                AlertController.showAlert("Товар додано до кошика");
+    private static class PortionSizeCell extends ListCell<PortionSize> {
+        @Override
+        protected void updateItem(PortionSize item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
             } else {
-                AlertController.showAlert("Помилка додавання до кошика");
+                setText(item.getDisplayName());
             }
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка додавання до кошика: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
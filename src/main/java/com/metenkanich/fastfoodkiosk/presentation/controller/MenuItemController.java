@@ -1,33 +1,32 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
+import com.metenkanich.fastfoodkiosk.domain.service.MenuCatalog;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
 import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PortionSize;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CategoryRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
+import com.metenkanich.fastfoodkiosk.presentation.image.ImageCache;
 import com.metenkanich.fastfoodkiosk.presentation.validation.MenuItemValidator;
 import com.metenkanich.fastfoodkiosk.presentation.validation.ValidationResult;
+import com.metenkanich.fastfoodkiosk.presentation.view.RefreshableView;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.stage.FileChooser;
-import javax.sql.DataSource;
 import java.io.File;
-import java.io.InputStream;
-import java.math.BigDecimal;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-public class MenuItemController {
+public class MenuItemController implements RefreshableView {
 
     @FXML
     private TextField nameField;
@@ -64,7 +63,7 @@ public class MenuItemController {
     @FXML
     private TableColumn<MenuItem, String> descriptionColumn;
     @FXML
-    private TableColumn<MenuItem, BigDecimal> priceColumn;
+    private TableColumn<MenuItem, Long> priceColumn;
     @FXML
     private TableColumn<MenuItem, String> categoryColumn;
     @FXML
@@ -74,18 +73,17 @@ public class MenuItemController {
     @FXML
     private ImageView imagePreview;
 
-    private MenuItemRepositoryImpl menuItemRepository;
-    private CategoryRepositoryImpl categoryRepository;
+    private MenuItemRepository menuItemRepository;
+    private CategoryRepository categoryRepository;
     private ObservableList<MenuItem> menuItemsList;
     private MenuItem selectedMenuItem;
+    private CompletableFuture<List<MenuItem>> pendingLoad;
     private String selectedImagePath;
-    private final Map<String, Image> imageCache = new HashMap<>();
     private static final String DEFAULT_IMAGE_PATH = "/images/food.png";
 
     public MenuItemController() {
-        DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-        this.menuItemRepository = new MenuItemRepositoryImpl(dataSource);
-        this.categoryRepository = new CategoryRepositoryImpl(dataSource);
+        this.menuItemRepository = MenuCatalog.getInstance().getMenuItemRepository();
+        this.categoryRepository = MenuCatalog.getInstance().getCategoryRepository();
         this.menuItemsList = FXCollections.observableArrayList();
         this.selectedImagePath = DEFAULT_IMAGE_PATH;
     }
@@ -121,14 +119,14 @@ public class MenuItemController {
         descriptionColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().description()));
 
         priceColumn.setCellValueFactory(cellData -> new SimpleObjectProperty<>(cellData.getValue().price()));
-        priceColumn.setCellFactory(column -> new TableCell<MenuItem, BigDecimal>() {
+        priceColumn.setCellFactory(column -> new TableCell<MenuItem, Long>() {
             @Override
-            protected void updateItem(BigDecimal price, boolean empty) {
+            protected void updateItem(Long price, boolean empty) {
                 super.updateItem(price, empty);
                 if (empty || price == null) {
                     setText(null);
                 } else {
-                    setText(String.format("%.2f ₴", price));
+                    setText(Money.format(price) + " ₴");
                 }
             }
         });
@@ -202,23 +200,31 @@ public class MenuItemController {
         });
     }
 
+    // Категорії могли змінитися в сусідньому розділі
+    @Override
+    public void refresh() {
+        searchTextField.clear();
+        clearFields();
+        loadCategories();
+        loadMenuItems();
+    }
+
     private void loadCategories() {
-        try {
-            List<Category> categories = categoryRepository.findAll();
-            categoryComboBox.setItems(FXCollections.observableArrayList(categories));
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка завантаження категорій: " + e.getMessage());
-        }
+        FxDataAccess.run(categoryComboBox, categoryRepository::findAll,
+            categories -> categoryComboBox.setItems(FXCollections.observableArrayList(categories)),
+            error -> AlertController.showAlert("Помилка завантаження категорій: " + error.getMessage()));
     }
 
     private void loadMenuItems() {
-        try {
-            List<MenuItem> menuItems = menuItemRepository.findAll();
-            menuItemsList.setAll(menuItems);
-            menuItemTable.setItems(menuItemsList);
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка завантаження елементів меню: " + e.getMessage());
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
         }
+        pendingLoad = FxDataAccess.run(menuItemTable, menuItemRepository::findAll,
+            menuItems -> {
+                menuItemsList.setAll(menuItems);
+                menuItemTable.setItems(menuItemsList);
+            },
+            error -> AlertController.showAlert("Помилка завантаження елементів меню: " + error.getMessage()));
     }
 
     private void searchMenuItems(String searchText) {
@@ -264,10 +270,10 @@ public class MenuItemController {
                 return;
             }
 
-            BigDecimal price;
+            long price;
             try {
-                price = new BigDecimal(priceText);
-                if (price.compareTo(BigDecimal.ZERO) <= 0) {
+                price = Money.parse(priceText);
+                if (price <= 0) {
                     AlertController.showAlert("Ціна повинна бути більше нуля");
                     return;
                 }
@@ -287,14 +293,23 @@ public class MenuItemController {
                 return;
             }
 
-            MenuItem savedMenuItem = menuItemRepository.create(menuItem);
-            if (savedMenuItem != null) {
-                loadMenuItems();
-                clearFields();
-                AlertController.showAlert("Елемент меню успішно додано!");
-            } else {
-                AlertController.showAlert("Не вдалося зберегти елемент меню. Спробуйте ще раз.");
-            }
+            addButton.setDisable(true);
+            FxDataAccess.submit(() -> menuItemRepository.create(menuItem),
+                savedMenuItem -> {
+                    addButton.setDisable(false);
+                    if (savedMenuItem != null) {
+                        ImageCache.getInstance().prepareMenuItemThumbnails(savedMenuItem.imagePath());
+                        loadMenuItems();
+                        clearFields();
+                        AlertController.showAlert("Елемент меню успішно додано!");
+                    } else {
+                        AlertController.showAlert("Не вдалося зберегти елемент меню. Спробуйте ще раз.");
+                    }
+                },
+                error -> {
+                    addButton.setDisable(false);
+                    AlertController.showAlert("Помилка при додаванні елемента меню: " + error.getMessage());
+                });
         } catch (Exception e) {
             AlertController.showAlert("Помилка при додаванні елемента меню: " + e.getMessage());
         }
@@ -329,10 +344,10 @@ public class MenuItemController {
                 return;
             }
 
-            BigDecimal price;
+            long price;
             try {
-                price = new BigDecimal(priceText);
-                if (price.compareTo(BigDecimal.ZERO) <= 0) {
+                price = Money.parse(priceText);
+                if (price <= 0) {
                     AlertController.showAlert("Ціна повинна бути більше нуля");
                     return;
                 }
@@ -353,16 +368,27 @@ public class MenuItemController {
                 return;
             }
 
-            MenuItem savedMenuItem = menuItemRepository.update(updatedMenuItem);
-            if (savedMenuItem != null) {
-                loadMenuItems();
-                clearFields();
-                AlertController.showAlert("Елемент меню успішно оновлено!");
-            } else {
-                AlertController.showAlert("Не вдалося оновити елемент меню. Спробуйте ще раз.");
-            }
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Елемент меню не знайдено в базі даних");
+            editButton.setDisable(true);
+            FxDataAccess.submit(() -> menuItemRepository.update(updatedMenuItem),
+                savedMenuItem -> {
+                    if (savedMenuItem != null) {
+                        ImageCache.getInstance().prepareMenuItemThumbnails(savedMenuItem.imagePath());
+                        loadMenuItems();
+                        clearFields();
+                        AlertController.showAlert("Елемент меню успішно оновлено!");
+                    } else {
+                        editButton.setDisable(false);
+                        AlertController.showAlert("Не вдалося оновити елемент меню. Спробуйте ще раз.");
+                    }
+                },
+                error -> {
+                    editButton.setDisable(false);
+                    if (error instanceof EntityNotFoundException) {
+                        AlertController.showAlert("Елемент меню не знайдено в базі даних");
+                    } else {
+                        AlertController.showAlert("Помилка при редагуванні елемента меню: " + error.getMessage());
+                    }
+                });
         } catch (Exception e) {
             AlertController.showAlert("Помилка при редагуванні елемента меню: " + e.getMessage());
         }
@@ -374,16 +400,26 @@ public class MenuItemController {
             return;
         }
 
-        try {
-            menuItemRepository.deleteById(selectedMenuItem.itemId());
-            loadMenuItems();
-            clearFields();
-            AlertController.showAlert("Елемент меню успішно видалено!");
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Елемент меню не знайдено в базі даних");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при видаленні елемента меню: " + e.getMessage());
-        }
+        UUID itemId = selectedMenuItem.itemId();
+        deleteButton.setDisable(true);
+        FxDataAccess.submit(
+            () -> {
+                menuItemRepository.deleteById(itemId);
+                return null;
+            },
+            ignored -> {
+                loadMenuItems();
+                clearFields();
+                AlertController.showAlert("Елемент меню успішно видалено!");
+            },
+            error -> {
+                deleteButton.setDisable(false);
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Елемент меню не знайдено в базі даних");
+                } else {
+                    AlertController.showAlert("Помилка при видаленні елемента меню: " + error.getMessage());
+                }
+            });
     }
 
     private void clearFields() {
@@ -408,7 +444,7 @@ public class MenuItemController {
 
         nameField.setText(menuItem.name());
         descriptionField.setText(menuItem.description() != null ? menuItem.description() : "");
-        priceField.setText(menuItem.price().toString());
+        priceField.setText(Money.toBigDecimal(menuItem.price()).toPlainString());
         isAvailableCheckBox.setSelected(menuItem.isAvailable() != null ? menuItem.isAvailable() : true);
 
         for (Category category : categoryComboBox.getItems()) {
@@ -440,35 +476,10 @@ public class MenuItemController {
     }
 
     private void updateImagePreview() {
-        try {
-            Image image;
-            if (selectedImagePath.equals(DEFAULT_IMAGE_PATH)) {
-                InputStream imageStream = getClass().getResourceAsStream(DEFAULT_IMAGE_PATH);
-                if (imageStream != null) {
-                    image = new Image(imageStream);
-                } else {
-                    image = null;
-                }
-            } else {
-                if (imageCache.containsKey(selectedImagePath)) {
-                    image = imageCache.get(selectedImagePath);
-                } else {
-                    File imageFile = new File(selectedImagePath);
-                    if (imageFile.exists()) {
-                        image = new Image(imageFile.toURI().toString());
-                        imageCache.put(selectedImagePath, image);
-                    } else {
-                        selectedImagePath = DEFAULT_IMAGE_PATH;
-                        InputStream imageStream = getClass().getResourceAsStream(DEFAULT_IMAGE_PATH);
-                        image = imageStream != null ? new Image(imageStream) : null;
-                    }
-                }
-            }
-
-            imagePreview.setImage(image);
-        } catch (Exception e) {
-            System.err.println("Помилка завантаження зображення: " + e.getMessage());
-            imagePreview.setImage(null);
+        // Файл, який видалили після вибору, замінюємо зображенням за замовчуванням
+        if (!selectedImagePath.equals(DEFAULT_IMAGE_PATH) && !new File(selectedImagePath).exists()) {
+            selectedImagePath = DEFAULT_IMAGE_PATH;
         }
+        ImageCache.getInstance().show(imagePreview, selectedImagePath, DEFAULT_IMAGE_PATH);
     }
 }
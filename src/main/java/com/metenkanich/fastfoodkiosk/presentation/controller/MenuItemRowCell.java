@@ -0,0 +1,59 @@
+package com.metenkanich.fastfoodkiosk.presentation.controller;
+
+import com.metenkanich.fastfoodkiosk.domain.service.CatalogItem;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.HBox;
+
+/**
+ * Рядок віртуалізованої сітки меню. ListView створює лише стільки рядків, скільки
+ * видно на екрані, і під час прокрутки передає їм нові страви, тому картки кожного
+ * рядка будуються з FXML один раз і далі лише перев'язуються до інших страв.
+ */
+public final class MenuItemRowCell extends ListCell<List<CatalogItem>> {
+
+    private final HBox row;
+    private final List<AnchorPane> cards = new ArrayList<>();
+    private final List<MenuItemCardController> controllers = new ArrayList<>();
+
+    public MenuItemRowCell(int cardsPerRow, double spacing) {
+        row = new HBox(spacing);
+        row.setAlignment(Pos.TOP_CENTER);
+        for (int i = 0; i < cardsPerRow; i++) {
+            try {
+                FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/menu_item_card.fxml"));
+                AnchorPane card = loader.load();
+                cards.add(card);
+                controllers.add(loader.getController());
+                row.getChildren().add(card);
+            } catch (IOException e) {
+                throw new IllegalStateException("Не вдалося завантажити картку меню", e);
+            }
+        }
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    @Override
+    protected void updateItem(List<CatalogItem> items, boolean empty) {
+        super.updateItem(items, empty);
+        if (empty || items == null) {
+            setGraphic(null);
+            return;
+        }
+        // Неповний останній рядок зберігає місця порожніх карток, щоб стовпці не зсувалися
+        for (int i = 0; i < cards.size(); i++) {
+            boolean filled = i < items.size();
+            cards.get(i).setVisible(filled);
+            if (filled) {
+                controllers.get(i).showMenuItem(items.get(i));
+            }
+        }
+        setGraphic(row);
+    }
+}
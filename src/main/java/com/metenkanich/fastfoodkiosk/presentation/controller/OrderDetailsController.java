@@ -1,15 +1,17 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
-import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
+import com.metenkanich.fastfoodkiosk.persistence.entity.CartLine;
+import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItemSummary;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.OrderRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.OrderRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -19,7 +21,9 @@ import javafx.stage.Stage;
 
 import java.net.URL;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.UUID;
 
@@ -43,18 +47,16 @@ public class OrderDetailsController implements Initializable {
     private Button cancelOrderButton;
 
     private final Order order;
-    private final OrderRepositoryImpl orderRepository;
-    private final CartRepositoryImpl cartRepository;
-    private final MenuItemRepositoryImpl menuItemRepository;
-    private final UserRepositoryImpl userRepository;
+    private final OrderRepository orderRepository;
+    private final CartRepository cartRepository;
+    private final UserRepository userRepository;
     private Stage stage;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    public OrderDetailsController(Order order, OrderRepositoryImpl orderRepository, CartRepositoryImpl cartRepository, MenuItemRepositoryImpl menuItemRepository, UserRepositoryImpl userRepository) {
+    public OrderDetailsController(Order order, OrderRepository orderRepository, CartRepository cartRepository, UserRepository userRepository) {
         this.order = order;
         this.orderRepository = orderRepository;
         this.cartRepository = cartRepository;
-        this.menuItemRepository = menuItemRepository;
         this.userRepository = userRepository;
     }
 
@@ -64,53 +66,24 @@ public class OrderDetailsController implements Initializable {
             itemsTextArea.setText("Помилка: замовлення не передано");
             return;
         }
-        // Отримуємо ім'я користувача
-        String username = "—";
+        // Ім'я користувача та склад замовлення завантажуються у фоні
+        userIdLabel.setText("Користувач: —");
         if (order.userId() != null) {
-            try {
-                User user = userRepository.findById(order.userId());
-                username = user.username();
-            } catch (EntityNotFoundException e) {
-                username = "Користувач не знайдений";
-            } catch (Exception e) {
-                username = "Помилка завантаження";
-            }
+            userIdLabel.setText("Користувач: завантаження...");
+            FxDataAccess.run(userIdLabel, () -> userRepository.findById(order.userId()).username(),
+                username -> userIdLabel.setText("Користувач: " + username),
+                error -> userIdLabel.setText("Користувач: " + (error instanceof EntityNotFoundException
+                    ? "Користувач не знайдений"
+                    : "Помилка завантаження")));
         }
-        userIdLabel.setText("Користувач: " + username);
 
-        totalPriceLabel.setText("Загальна сума: " + order.totalPrice() + " грн");
+        totalPriceLabel.setText("Загальна сума: " + Money.format(order.totalPrice()) + " грн");
         statusLabel.setText("Статус: " + order.status().getLabel());
         createdAtLabel.setText("Дата створення: " + order.createdAt().format(DATE_TIME_FORMATTER));
 
-        // Load cart items
-        List<UUID> cartIds = orderRepository.findCartIdsByOrderId(order.orderId());
-        if (cartIds.isEmpty()) {
-            itemsTextArea.setText("Товари: немає даних");
-        } else {
-            StringBuilder items = new StringBuilder("Товари:\n");
-            for (UUID cartId : cartIds) {
-                try {
-                    Cart cartItem = cartRepository.findById(cartId);
-                    if (cartItem != null) {
-                        MenuItem menuItem = menuItemRepository.findById(cartItem.itemId());
-                        if (menuItem != null) {
-                            items.append("  - Товар: ").append(menuItem.name()).append("\n")
-                                .append("    Кількість: ").append(cartItem.quantity()).append("\n")
-                                .append("    Ціна: ").append(String.format("%.2f", cartItem.subtotal())).append(" грн\n");
-                        } else {
-                            items.append("  - Товар: [видалено] (ID: ").append(cartItem.itemId()).append(")\n")
-                                .append("    Кількість: ").append(cartItem.quantity()).append("\n")
-                                .append("    Ціна: ").append(String.format("%.2f", cartItem.subtotal())).append(" грн\n");
-                        }
-                    } else {
-                        items.append("  - Товар: [не знайдено] (ID: ").append(cartId).append(")\n");
-                    }
-                } catch (Exception e) {
-                    items.append("  - Помилка при завантаженні товару (ID: ").append(cartId).append("): ").append(e.getMessage()).append("\n");
-                }
-            }
-            itemsTextArea.setText(items.toString());
-        }
+        itemsTextArea.setText("Товари: завантаження...");
+        FxDataAccess.run(itemsTextArea, this::describeItems, itemsTextArea::setText,
+            error -> itemsTextArea.setText("Товари: помилка завантаження (" + error.getMessage() + ")"));
 
         closeButton.setOnAction(event -> closeWindow());
 
@@ -123,6 +96,42 @@ public class OrderDetailsController implements Initializable {
         }
     }
 
+    // Виконується поза потоком JavaFX
+    private String describeItems() {
+        List<UUID> cartIds = orderRepository.findCartIdsByOrderId(order.orderId());
+        if (cartIds.isEmpty()) {
+            return "Товари: немає даних";
+        }
+        StringBuilder items = new StringBuilder("Товари:\n");
+        Map<UUID, CartLine> cartLines = new HashMap<>();
+        for (CartLine cartLine : cartRepository.findCartLinesByIds(cartIds)) {
+            cartLines.put(cartLine.cart().cartId(), cartLine);
+        }
+        for (UUID cartId : cartIds) {
+            try {
+                CartLine cartLine = cartLines.get(cartId);
+                if (cartLine != null) {
+                    Cart cartItem = cartLine.cart();
+                    MenuItemSummary menuItem = cartLine.menuItem();
+                    if (menuItem != null) {
+                        items.append("  - Товар: ").append(menuItem.name()).append("\n")
+                            .append("    Кількість: ").append(cartItem.quantity()).append("\n")
+                            .append("    Ціна: ").append(Money.format(cartItem.subtotal())).append(" грн\n");
+                    } else {
+                        items.append("  - Товар: [видалено] (ID: ").append(cartItem.itemId()).append(")\n")
+                            .append("    Кількість: ").append(cartItem.quantity()).append("\n")
+                            .append("    Ціна: ").append(Money.format(cartItem.subtotal())).append(" грн\n");
+                    }
+                } else {
+                    items.append("  - Товар: [не знайдено] (ID: ").append(cartId).append(")\n");
+                }
+            } catch (Exception e) {
+                items.append("  - Помилка при завантаженні товару (ID: ").append(cartId).append("): ").append(e.getMessage()).append("\n");
+            }
+        }
+        return items.toString();
+    }
+
     @FXML
     private void closeWindow() {
         if (stage != null) {
@@ -137,27 +146,34 @@ public class OrderDetailsController implements Initializable {
             return;
         }
 
-        try {
-            Order updatedOrder = new Order(
-                order.orderId(),
-                order.userId(),
-                order.totalPrice(),
-                OrderStatus.CANCELLED,
-                order.createdAt()
-            );
-
-            Order result = orderRepository.update(updatedOrder);
-            if (result != null) {
-                AlertController.showAlert("Замовлення успішно скасовано");
-                closeWindow();
-            } else {
-                AlertController.showAlert("Помилка при скасуванні замовлення");
-            }
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Замовлення не знайдено");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при скасуванні замовлення: " + e.getMessage());
-        }
+        Order updatedOrder = new Order(
+            order.orderId(),
+            order.userId(),
+            order.totalPrice(),
+            OrderStatus.CANCELLED,
+            order.createdAt()
+        );
+
+        // Запис не прив'язаний до вікна: результат показується, навіть якщо його вже закрили
+        cancelOrderButton.setDisable(true);
+        FxDataAccess.submit(() -> orderRepository.update(updatedOrder),
+            result -> {
+                if (result != null) {
+                    AlertController.showAlert("Замовлення успішно скасовано");
+                    closeWindow();
+                } else {
+                    cancelOrderButton.setDisable(false);
+                    AlertController.showAlert("Помилка при скасуванні замовлення");
+                }
+            },
+            error -> {
+                cancelOrderButton.setDisable(false);
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Замовлення не знайдено");
+                } else {
+                    AlertController.showAlert("Помилка при скасуванні замовлення: " + error.getMessage());
+                }
+            });
     }
 
     public void setStage(Stage stage) {
@@ -1,57 +1,67 @@
 package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
 import com.metenkanich.fastfoodkiosk.domain.security.AuthenticatedUser;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.domain.service.Repositories;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
+import com.metenkanich.fastfoodkiosk.persistence.entity.OrderSummary;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.OrderStatus;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.OrderRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.OrderRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderCursor;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderFilter;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderPage;
+import com.metenkanich.fastfoodkiosk.persistence.repository.query.OrderSort;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
 import com.metenkanich.fastfoodkiosk.presentation.validation.OrderValidator;
 import com.metenkanich.fastfoodkiosk.presentation.validation.ValidationResult;
+import com.metenkanich.fastfoodkiosk.presentation.view.RefreshableView;
 import java.net.URL;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
-public class OrdersController {
+public class OrdersController implements RefreshableView {
 
     @FXML
     private TextField searchTextField;
     @FXML
     private ComboBox<String> statusComboBox;
     @FXML
-    private TableView<Order> ordersTableView;
+    private TableView<OrderSummary> ordersTableView;
     @FXML
-    private TableColumn<Order, String> userIdColumn;
+    private TableColumn<OrderSummary, String> userIdColumn;
     @FXML
-    private TableColumn<Order, String> totalPriceColumn;
+    private TableColumn<OrderSummary, String> totalPriceColumn;
     @FXML
-    private TableColumn<Order, String> statusColumn;
+    private TableColumn<OrderSummary, String> statusColumn;
     @FXML
-    private TableColumn<Order, String> createdAtColumn;
+    private TableColumn<OrderSummary, String> createdAtColumn;
     @FXML
-    private TableColumn<Order, Void> detailsColumn;
+    private TableColumn<OrderSummary, Void> detailsColumn;
     @FXML
     private ComboBox<OrderStatus> editStatusComboBox;
     @FXML
@@ -60,20 +70,27 @@ public class OrdersController {
     private Button deleteButton;
     @FXML
     private Button clearFieldsButton;
+    @FXML
+    private Label ordersCountLabel;
 
-    private final OrderRepositoryImpl orderRepository;
-    private final CartRepositoryImpl cartRepository;
-    private final MenuItemRepositoryImpl menuItemRepository;
-    private final UserRepositoryImpl userRepository;
-    private final ObservableList<Order> ordersList;
+    private final OrderRepository orderRepository;
+    private final CartRepository cartRepository;
+    private final UserRepository userRepository;
+    private final ObservableList<OrderSummary> ordersList;
     private Order selectedOrder;
+    private OrderFilter currentFilter = OrderFilter.all();
+    private OrderCursor nextCursor;
+    private CompletableFuture<OrderPage> pendingPage;
+    private static final int PAGE_SIZE = 100;
+    // Наступна сторінка підвантажується, коли прокрутка доходить до цієї частки таблиці
+    private static final double LOAD_MORE_THRESHOLD = 0.9;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public OrdersController() {
-        this.orderRepository = new OrderRepositoryImpl(DatabaseConnection.getInstance().getDataSource());
-        this.cartRepository = new CartRepositoryImpl(DatabaseConnection.getInstance().getDataSource());
-        this.menuItemRepository = new MenuItemRepositoryImpl(DatabaseConnection.getInstance().getDataSource());
-        this.userRepository = new UserRepositoryImpl(DatabaseConnection.getInstance().getDataSource());
+        Repositories repositories = Repositories.getInstance();
+        this.orderRepository = repositories.getOrderRepository();
+        this.cartRepository = repositories.getCartRepository();
+        this.userRepository = repositories.getUserRepository();
         this.ordersList = FXCollections.observableArrayList();
     }
 
@@ -82,6 +99,7 @@ public class OrdersController {
         setupStatusComboBox();
         setupTableColumns();
         setupEditStatusComboBox();
+        setupLazyPaging();
         loadOrders();
 
         statusComboBox.setOnAction(event -> loadOrders());
@@ -93,8 +111,8 @@ public class OrdersController {
 
         ordersTableView.getSelectionModel().selectedItemProperty().addListener(
             (observable, oldValue, newValue) -> {
-                selectedOrder = newValue;
-                populateFields(newValue);
+                selectedOrder = newValue == null ? null : newValue.order();
+                populateFields(selectedOrder);
                 editButton.setDisable(newValue == null);
                 deleteButton.setDisable(newValue == null);
             });
@@ -114,19 +132,12 @@ public class OrdersController {
     }
 
     private void setupTableColumns() {
-        userIdColumn.setCellValueFactory(cellData -> {
-            try {
-                User user = userRepository.findById(cellData.getValue().userId());
-                return new SimpleStringProperty(user.username());
-            } catch (EntityNotFoundException e) {
-                return new SimpleStringProperty("Користувач не знайдений");
-            } catch (Exception e) {
-                return new SimpleStringProperty("Помилка завантаження");
-            }
-        });
-        totalPriceColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().totalPrice().toString()));
-        statusColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().status().getLabel()));
-        createdAtColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().createdAt().format(DATE_TIME_FORMATTER)));
+        // Ім'я користувача приходить разом із замовленням, тож рендеринг клітинок не звертається до БД
+        userIdColumn.setCellValueFactory(cellData -> new SimpleStringProperty(
+            cellData.getValue().username() != null ? cellData.getValue().username() : "Користувач не знайдений"));
+        totalPriceColumn.setCellValueFactory(cellData -> new SimpleStringProperty(Money.toBigDecimal(cellData.getValue().order().totalPrice()).toPlainString()));
+        statusColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().order().status().getLabel()));
+        createdAtColumn.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().order().createdAt().format(DATE_TIME_FORMATTER)));
 
         detailsColumn.setCellFactory(param -> new TableCell<>() {
             private final Button viewDetailsButton = new Button("Деталі");
@@ -138,12 +149,12 @@ public class OrdersController {
                 cancelButton.getStyleClass().add("cancel-button");
 
                 viewDetailsButton.setOnAction(event -> {
-                    Order order = getTableView().getItems().get(getIndex());
+                    Order order = getTableView().getItems().get(getIndex()).order();
                     viewOrderDetails(order);
                 });
 
                 cancelButton.setOnAction(event -> {
-                    Order order = getTableView().getItems().get(getIndex());
+                    Order order = getTableView().getItems().get(getIndex()).order();
                     cancelOrder(order);
                 });
             }
@@ -154,7 +165,7 @@ public class OrdersController {
                 if (empty) {
                     setGraphic(null);
                 } else {
-                    Order order = getTableView().getItems().get(getIndex());
+                    Order order = getTableView().getItems().get(getIndex()).order();
                     cancelButton.setDisable(order.status() != OrderStatus.PENDING);
                     setGraphic(buttonBox);
                 }
@@ -162,61 +173,88 @@ public class OrdersController {
         });
     }
 
+    // Смуга прокрутки з'являється разом зі скіном таблиці
+    private void setupLazyPaging() {
+        ordersTableView.skinProperty().addListener((observable, oldSkin, newSkin) -> {
+            for (Node node : ordersTableView.lookupAll(".scroll-bar")) {
+                if (node instanceof ScrollBar scrollBar && scrollBar.getOrientation() == Orientation.VERTICAL) {
+                    scrollBar.valueProperty().addListener((valueObservable, oldValue, newValue) -> {
+                        if (newValue.doubleValue() >= scrollBar.getMax() * LOAD_MORE_THRESHOLD) {
+                            loadNextPage();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    // Перша сторінка за поточним фільтром; решта догружається під час прокрутки
+    // Нові замовлення надходять з кіосків, поки розділ прихований; фільтри лишаються
+    @Override
+    public void refresh() {
+        loadOrders();
+    }
+
     private void loadOrders() {
         User currentUser = AuthenticatedUser.getInstance().getCurrentUser();
         if (currentUser == null) {
             AlertController.showAlert("Будь ласка, увійдіть у систему");
             ordersList.clear();
+            nextCursor = null;
+            ordersCountLabel.setText("");
             ordersTableView.setPlaceholder(new Label("Наразі таких замовлень немає"));
             return;
         }
 
-        List<Order> orders;
-        String selectedStatus = statusComboBox.getValue();
-        if (selectedStatus == null || selectedStatus.equals("Усі статуси")) {
-            orders = orderRepository.findAll();
-        } else {
-            OrderStatus status = Arrays.stream(OrderStatus.values())
-                .filter(s -> s.getLabel().equals(selectedStatus))
-                .findFirst()
-                .orElse(null);
-            orders = status != null
-                ? orderRepository.findAll().stream()
-                .filter(order -> order.status().equals(status))
-                .collect(Collectors.toList())
-                : orderRepository.findAll();
+        // Новий фільтр робить непотрібними сторінки, що ще завантажуються за попереднім
+        if (pendingPage != null) {
+            pendingPage.cancel(false);
         }
+        currentFilter = buildFilter();
+        OrderFilter filter = currentFilter;
+        pendingPage = FxDataAccess.run(ordersTableView,
+            () -> orderRepository.findPage(filter, OrderSort.CREATED_AT_DESC, null, PAGE_SIZE),
+            this::showFirstPage,
+            error -> AlertController.showAlert("Помилка при завантаженні замовлень: " + error.getMessage()));
+    }
 
-        String searchText = searchTextField.getText().trim().toLowerCase();
-        if (!searchText.isEmpty()) {
-            orders = orders.stream()
-                .filter(order -> {
-                    String username;
-                    try {
-                        User user = userRepository.findById(order.userId());
-                        username = user.username().toLowerCase();
-                    } catch (Exception e) {
-                        username = "невідомий користувач";
-                    }
-                    String totalPrice = order.totalPrice().toString().toLowerCase();
-                    String status = order.status().getLabel().toLowerCase();
-                    String createdAt = order.createdAt().format(DATE_TIME_FORMATTER).toLowerCase();
-                    return username.contains(searchText) ||
-                        totalPrice.contains(searchText) ||
-                        status.contains(searchText) ||
-                        createdAt.contains(searchText);
-                })
-                .toList();
+    private void showFirstPage(OrderPage page) {
+        nextCursor = page.nextCursor();
+        ordersList.setAll(page.orders());
+        ordersCountLabel.setText(page.totalCountCapped()
+            ? "Знайдено: понад " + page.totalCount()
+            : "Знайдено: " + page.totalCount());
+        if (ordersList.isEmpty()) {
+            ordersTableView.setPlaceholder(new Label("Наразі таких замовлень немає"));
         }
+        ordersTableView.setItems(ordersList);
+    }
 
-        ordersList.clear();
-        if (orders.isEmpty()) {
-            ordersTableView.setPlaceholder(new Label("Наразі таких замовлень немає"));
-        } else {
-            ordersList.addAll(orders);
+    // Під час прокрутки подія надходить багато разів; одночасно вантажиться лише одна сторінка
+    private void loadNextPage() {
+        if (nextCursor == null || (pendingPage != null && !pendingPage.isDone())) {
+            return;
         }
+        OrderFilter filter = currentFilter;
+        OrderCursor cursor = nextCursor;
+        pendingPage = FxDataAccess.run(ordersTableView,
+            () -> orderRepository.findPage(filter, OrderSort.CREATED_AT_DESC, cursor, PAGE_SIZE),
+            page -> {
+                nextCursor = page.nextCursor();
+                ordersList.addAll(page.orders());
+            },
+            error -> AlertController.showAlert("Помилка при завантаженні замовлень: " + error.getMessage()));
+    }
 
-        ordersTableView.setItems(ordersList);
+    // "Усі статуси" не збігається з жодною назвою статусу і дає фільтр без обмеження за статусом
+    private OrderFilter buildFilter() {
+        OrderFilter filter = OrderFilter.all().withText(searchTextField.getText());
+        String selectedStatus = statusComboBox.getValue();
+        return Arrays.stream(OrderStatus.values())
+            .filter(status -> status.getLabel().equals(selectedStatus))
+            .findFirst()
+            .map(status -> filter.withStatuses(Set.of(status)))
+            .orElse(filter);
     }
 
     private void editOrder() {
@@ -236,26 +274,30 @@ public class OrdersController {
             return;
         }
 
-        try {
-            Order updatedOrder = new Order(
-                selectedOrder.orderId(),
-                selectedOrder.userId(),
-                selectedOrder.totalPrice(),
-                newStatus,
-                selectedOrder.createdAt()
-            );
-
-            Order savedOrder = orderRepository.update(updatedOrder);
-            if (savedOrder != null) {
-                loadOrders();
-                clearFields();
-                AlertController.showAlert("Статус замовлення успішно оновлено!");
-            } else {
-                AlertController.showAlert("Не вдалося оновити статус замовлення. Спробуйте ще раз.");
-            }
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при оновленні статусу замовлення: " + e.getMessage());
-        }
+        Order updatedOrder = new Order(
+            selectedOrder.orderId(),
+            selectedOrder.userId(),
+            selectedOrder.totalPrice(),
+            newStatus,
+            selectedOrder.createdAt()
+        );
+
+        editButton.setDisable(true);
+        FxDataAccess.submit(() -> orderRepository.update(updatedOrder),
+            savedOrder -> {
+                if (savedOrder != null) {
+                    loadOrders();
+                    clearFields();
+                    AlertController.showAlert("Статус замовлення успішно оновлено!");
+                } else {
+                    editButton.setDisable(false);
+                    AlertController.showAlert("Не вдалося оновити статус замовлення. Спробуйте ще раз.");
+                }
+            },
+            error -> {
+                editButton.setDisable(false);
+                AlertController.showAlert("Помилка при оновленні статусу замовлення: " + error.getMessage());
+            });
     }
 
     private void deleteOrder() {
@@ -264,16 +306,26 @@ public class OrdersController {
             return;
         }
 
-        try {
-            orderRepository.deleteById(selectedOrder.orderId());
-            loadOrders();
-            clearFields();
-            AlertController.showAlert("Замовлення успішно видалено!");
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Замовлення не знайдено в базі даних");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при видаленні замовлення: " + e.getMessage());
-        }
+        UUID orderId = selectedOrder.orderId();
+        deleteButton.setDisable(true);
+        FxDataAccess.submit(
+            () -> {
+                orderRepository.deleteById(orderId);
+                return null;
+            },
+            ignored -> {
+                loadOrders();
+                clearFields();
+                AlertController.showAlert("Замовлення успішно видалено!");
+            },
+            error -> {
+                deleteButton.setDisable(false);
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Замовлення не знайдено в базі даних");
+                } else {
+                    AlertController.showAlert("Помилка при видаленні замовлення: " + error.getMessage());
+                }
+            });
     }
 
     private void clearFields() {
@@ -297,28 +349,29 @@ public class OrdersController {
             return;
         }
 
-        try {
-            Order updatedOrder = new Order(
-                order.orderId(),
-                order.userId(),
-                order.totalPrice(),
-                OrderStatus.CANCELLED,
-                order.createdAt()
-            );
-            List<UUID> cartIds = orderRepository.findCartIdsByOrderId(order.orderId());
-            Order result = orderRepository.update(updatedOrder);
-
-            if (result != null) {
-                AlertController.showAlert("Замовлення успішно скасовано");
-                loadOrders();
-            } else {
-                AlertController.showAlert("Помилка при скасуванні замовлення");
-            }
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Замовлення не знайдено");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при скасуванні замовлення: " + e.getMessage());
-        }
+        Order updatedOrder = new Order(
+            order.orderId(),
+            order.userId(),
+            order.totalPrice(),
+            OrderStatus.CANCELLED,
+            order.createdAt()
+        );
+        FxDataAccess.submit(() -> orderRepository.update(updatedOrder),
+            result -> {
+                if (result != null) {
+                    AlertController.showAlert("Замовлення успішно скасовано");
+                    loadOrders();
+                } else {
+                    AlertController.showAlert("Помилка при скасуванні замовлення");
+                }
+            },
+            error -> {
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Замовлення не знайдено");
+                } else {
+                    AlertController.showAlert("Помилка при скасуванні замовлення: " + error.getMessage());
+                }
+            });
     }
 
     private void viewOrderDetails(Order order) {
@@ -328,7 +381,7 @@ public class OrdersController {
                 throw new IOException("Resource /view/order_details.fxml not found in classpath");
             }
             FXMLLoader loader = new FXMLLoader(resource);
-            loader.setControllerFactory(param -> new OrderDetailsController(order, orderRepository, cartRepository, menuItemRepository, userRepository));
+            loader.setControllerFactory(param -> new OrderDetailsController(order, orderRepository, cartRepository, userRepository));
             Parent root = loader.load();
 
             Stage stage = new Stage();
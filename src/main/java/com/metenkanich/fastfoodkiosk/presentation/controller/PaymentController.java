@@ -4,23 +4,25 @@ import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Payment;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentMethod;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.PaymentStatus;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.PaymentRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.domain.service.Repositories;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.PaymentRepository;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
 import com.metenkanich.fastfoodkiosk.presentation.validation.PaymentValidator;
 import com.metenkanich.fastfoodkiosk.presentation.validation.ValidationResult;
+import com.metenkanich.fastfoodkiosk.presentation.view.RefreshableView;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javax.sql.DataSource;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-public class PaymentController {
+public class PaymentController implements RefreshableView {
 
     @FXML
     private ComboBox<PaymentMethod> paymentMethodComboBox;
@@ -45,14 +47,14 @@ public class PaymentController {
     @FXML
     private TableColumn<Payment, String> createdAtColumn;
 
-    private PaymentRepositoryImpl paymentRepository;
+    private final PaymentRepository paymentRepository;
     private ObservableList<Payment> paymentsList;
     private Payment selectedPayment;
+    private CompletableFuture<List<Payment>> pendingLoad;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public PaymentController() {
-        DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-        this.paymentRepository = new PaymentRepositoryImpl(dataSource);
+        this.paymentRepository = Repositories.getInstance().getPaymentRepository();
         this.paymentsList = FXCollections.observableArrayList();
     }
 
@@ -83,17 +85,26 @@ public class PaymentController {
             });
     }
 
+    // Нові платежі з'являються під час оформлення замовлень, поки розділ прихований
+    @Override
+    public void refresh() {
+        searchTextField.clear();
+        loadPayments();
+    }
+
     private void loadPayments() {
-        try {
-            List<Payment> payments = paymentRepository.findAll();
-            paymentsList.setAll(payments);
-            paymentTable.setItems(paymentsList);
-            if (paymentsList.isEmpty()) {
-                paymentTable.setPlaceholder(new Label("Немає платежів"));
-            }
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при завантаженні платежів: " + e.getMessage());
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
         }
+        pendingLoad = FxDataAccess.run(paymentTable, paymentRepository::findAll,
+            payments -> {
+                paymentsList.setAll(payments);
+                paymentTable.setItems(paymentsList);
+                if (paymentsList.isEmpty()) {
+                    paymentTable.setPlaceholder(new Label("Немає платежів"));
+                }
+            },
+            error -> AlertController.showAlert("Помилка при завантаженні платежів: " + error.getMessage()));
     }
 
     private void searchPayments(String searchText) {
@@ -121,35 +132,39 @@ public class PaymentController {
             return;
         }
 
-        try {
-            PaymentMethod paymentMethod = paymentMethodComboBox.getValue();
-            PaymentStatus paymentStatus = paymentStatusComboBox.getValue();
-
-            Payment updatedPayment = new Payment(
-                selectedPayment.id(),
-                selectedPayment.cartId(),
-                paymentMethod,
-                paymentStatus,
-                selectedPayment.createdAt()
-            );
-
-            ValidationResult validationResult = PaymentValidator.isPaymentValid(updatedPayment, true);
-            if (!validationResult.isValid()) {
-                AlertController.showAlert("Помилки при редагуванні платежу:\n" + validationResult.getErrorMessage());
-                return;
-            }
-
-            Payment savedPayment = paymentRepository.update(updatedPayment);
-            if (savedPayment != null) {
-                loadPayments();
-                clearFields();
-                AlertController.showAlert("Платіж успішно оновлено!");
-            } else {
-                AlertController.showAlert("Не вдалося оновити платіж. Спробуйте ще раз.");
-            }
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при редагуванні платежу: " + e.getMessage());
+        PaymentMethod paymentMethod = paymentMethodComboBox.getValue();
+        PaymentStatus paymentStatus = paymentStatusComboBox.getValue();
+
+        Payment updatedPayment = new Payment(
+            selectedPayment.id(),
+            selectedPayment.cartId(),
+            paymentMethod,
+            paymentStatus,
+            selectedPayment.createdAt()
+        );
+
+        ValidationResult validationResult = PaymentValidator.isPaymentValid(updatedPayment, true);
+        if (!validationResult.isValid()) {
+            AlertController.showAlert("Помилки при редагуванні платежу:\n" + validationResult.getErrorMessage());
+            return;
         }
+
+        editButton.setDisable(true);
+        FxDataAccess.submit(() -> paymentRepository.update(updatedPayment),
+            savedPayment -> {
+                if (savedPayment != null) {
+                    loadPayments();
+                    clearFields();
+                    AlertController.showAlert("Платіж успішно оновлено!");
+                } else {
+                    editButton.setDisable(false);
+                    AlertController.showAlert("Не вдалося оновити платіж. Спробуйте ще раз.");
+                }
+            },
+            error -> {
+                editButton.setDisable(false);
+                AlertController.showAlert("Помилка при редагуванні платежу: " + error.getMessage());
+            });
     }
 
     private void deletePayment() {
@@ -158,16 +173,26 @@ public class PaymentController {
             return;
         }
 
-        try {
-            paymentRepository.deleteById(selectedPayment.id());
-            loadPayments();
-            clearFields();
-            AlertController.showAlert("Платіж успішно видалено!");
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Платіж не знайдено в базі даних");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при видаленні платежу: " + e.getMessage());
-        }
+        UUID paymentId = selectedPayment.id();
+        deleteButton.setDisable(true);
+        FxDataAccess.submit(
+            () -> {
+                paymentRepository.deleteById(paymentId);
+                return null;
+            },
+            ignored -> {
+                loadPayments();
+                clearFields();
+                AlertController.showAlert("Платіж успішно видалено!");
+            },
+            error -> {
+                deleteButton.setDisable(false);
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Платіж не знайдено в базі даних");
+                } else {
+                    AlertController.showAlert("Помилка при видаленні платежу: " + error.getMessage());
+                }
+            });
     }
 
     private void clearFields() {
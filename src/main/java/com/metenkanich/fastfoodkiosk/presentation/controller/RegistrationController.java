@@ -2,11 +2,12 @@ package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.domain.security.PasswordHashing;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.domain.service.UserCache;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.Role;
+import com.metenkanich.fastfoodkiosk.persistence.repository.Uuids;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
 import com.metenkanich.fastfoodkiosk.presentation.validation.UserValidator;
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -18,7 +19,6 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
-import javax.sql.DataSource;
 
 public class RegistrationController {
 
@@ -43,8 +43,7 @@ public class RegistrationController {
   private UserRepository userRepository;
 
   public RegistrationController() {
-    DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-    this.userRepository = new UserRepositoryImpl(dataSource);
+    this.userRepository = UserCache.getInstance().getUserRepository();
   }
 
   @FXML
@@ -68,7 +67,7 @@ public class RegistrationController {
   }
 
   private void handleSignIn() {
-    UUID userId = UUID.randomUUID();
+    UUID userId = Uuids.newId();
     String username = loginField.getText();
     String password = passwordField.getText();
     String email = emailField.getText();
@@ -92,17 +91,33 @@ public class RegistrationController {
       displayError("Невірний формат email");
       return;
     }
-    try {
-      userRepository.findByUsername(username);
-      displayError("Користувач з таким ім'ям вже існує");
-      return;
-    } catch (EntityNotFoundException e) {
-    }
     String hashedPassword = PasswordHashing.getInstance().hashedPassword(password);
-
-      User user = new User(userId, username, hashedPassword, Role.USER, email, LocalDateTime.now());
-      userRepository.addUser(user);
-     switchScene("/view/authorization.fxml");
+    User user = new User(userId, username, hashedPassword, Role.USER, email, LocalDateTime.now());
+
+    // Перевірка імені та збереження виконуються у фоні; false - ім'я вже зайняте
+    signUpButton.setDisable(true);
+    FxDataAccess.run(signUpButton,
+        () -> {
+          try {
+            userRepository.findByUsername(username);
+            return false;
+          } catch (EntityNotFoundException e) {
+            userRepository.addUser(user);
+            return true;
+          }
+        },
+        registered -> {
+          signUpButton.setDisable(false);
+          if (registered) {
+            switchScene("/view/authorization.fxml");
+          } else {
+            displayError("Користувач з таким ім'ям вже існує");
+          }
+        },
+        error -> {
+          signUpButton.setDisable(false);
+          displayError("Помилка під час реєстрації: " + error.getMessage());
+        });
   }
 
   private void displayError(String message) {
@@ -2,12 +2,13 @@ package com.metenkanich.fastfoodkiosk.presentation.controller;
 
 import com.metenkanich.fastfoodkiosk.domain.exception.EntityNotFoundException;
 import com.metenkanich.fastfoodkiosk.domain.security.PasswordHashing;
+import com.metenkanich.fastfoodkiosk.domain.service.UserCache;
 import com.metenkanich.fastfoodkiosk.persistence.entity.User;
 import com.metenkanich.fastfoodkiosk.persistence.entity.enums.Role;
 import com.metenkanich.fastfoodkiosk.persistence.repository.contract.UserRepository;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.UserRepositoryImpl;
-import com.metenkanich.fastfoodkiosk.persistence.connection.DatabaseConnection;
+import com.metenkanich.fastfoodkiosk.presentation.async.FxDataAccess;
 import com.metenkanich.fastfoodkiosk.presentation.validation.UserValidator;
+import com.metenkanich.fastfoodkiosk.presentation.view.RefreshableView;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,9 +19,10 @@ import javafx.util.StringConverter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import javax.sql.DataSource;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
-public class UserManagementController {
+public class UserManagementController implements RefreshableView {
 
     @FXML
     private TextField usernameField;
@@ -54,11 +56,11 @@ public class UserManagementController {
     private UserRepository userRepository;
     private ObservableList<User> usersList;
     private User selectedUser;
+    private CompletableFuture<List<User>> pendingLoad;
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public UserManagementController() {
-        DataSource dataSource = DatabaseConnection.getInstance().getDataSource();
-        this.userRepository = new UserRepositoryImpl(dataSource);
+        this.userRepository = UserCache.getInstance().getUserRepository();
         this.usersList = FXCollections.observableArrayList();
     }
 
@@ -106,17 +108,26 @@ public class UserManagementController {
             });
     }
 
+    // Нові користувачі реєструються, поки розділ прихований
+    @Override
+    public void refresh() {
+        searchTextField.clear();
+        loadUsers();
+    }
+
     private void loadUsers() {
-        try {
-            List<User> users = userRepository.findAll();
-            usersList.setAll(users);
-            userTable.setItems(usersList);
-            if (usersList.isEmpty()) {
-                userTable.setPlaceholder(new Label("Немає користувачів"));
-            }
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при завантаженні користувачів: " + e.getMessage());
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
         }
+        pendingLoad = FxDataAccess.run(userTable, userRepository::findAll,
+            users -> {
+                usersList.setAll(users);
+                userTable.setItems(usersList);
+                if (usersList.isEmpty()) {
+                    userTable.setPlaceholder(new Label("Немає користувачів"));
+                }
+            },
+            error -> AlertController.showAlert("Помилка при завантаженні користувачів: " + error.getMessage()));
     }
 
     private void searchUsers(String searchText) {
@@ -181,29 +192,33 @@ public class UserManagementController {
                 return;
             }
 
-            // Перевірка унікальності імені користувача та email
-            try {
-                userRepository.findByUsername(username);
-                AlertController.showAlert("Користувач з ім'ям " + username + " уже існує");
-                return;
-            } catch (EntityNotFoundException e) {
-                // Ім'я вільне, продовжуємо
-            }
-            for (User user : userRepository.findAll()) {
-                if (user.email().equalsIgnoreCase(email)) {
-                    AlertController.showAlert("Користувач з email " + email + " уже існує");
-                    return;
-                }
-            }
-
             // Створення об'єкта User
             User user = new User(null, username, hashedPassword, role, email, LocalDateTime.now());
 
-            // Збереження в базі даних
-            userRepository.addUser(user);
-            loadUsers();
-            clearFields();
-            AlertController.showAlert("Користувача успішно додано!");
+            // Перевірка унікальності та збереження виконуються у фоні
+            addButton.setDisable(true);
+            FxDataAccess.submit(
+                () -> {
+                    String conflict = findConflict(username, email, null);
+                    if (conflict == null) {
+                        userRepository.addUser(user);
+                    }
+                    return conflict;
+                },
+                conflict -> {
+                    addButton.setDisable(false);
+                    if (conflict != null) {
+                        AlertController.showAlert(conflict);
+                        return;
+                    }
+                    loadUsers();
+                    clearFields();
+                    AlertController.showAlert("Користувача успішно додано!");
+                },
+                error -> {
+                    addButton.setDisable(false);
+                    AlertController.showAlert("Помилка при додаванні користувача");
+                });
         } catch (Exception e) {
             AlertController.showAlert("Помилка при додаванні користувача");
         }
@@ -253,52 +268,86 @@ public class UserManagementController {
                 return;
             }
 
-            // Перевірка унікальності імені користувача та email (крім поточного користувача)
-            if (!username.equals(selectedUser.username())) {
-                try {
-                    userRepository.findByUsername(username);
-                    AlertController.showAlert("Користувач з ім'ям " + username + " уже існує");
-                    return;
-                } catch (EntityNotFoundException e) {
-                }
-            }
-            for (User user : userRepository.findAll()) {
-                if (!user.id().equals(selectedUser.id()) && user.email().equalsIgnoreCase(email)) {
-                    AlertController.showAlert("Користувач з email " + email + " уже існує");
-                    return;
-                }
-            }
-
             // Створення оновленого об'єкта User
-            User updatedUser = new User(selectedUser.id(), username, hashedPassword, role, email, selectedUser.createdAt());
-
-            // Збереження в базі даних
-            userRepository.deleteUser(selectedUser.username()); // Видаляємо старий запис
-            userRepository.addUser(updatedUser); // Додаємо оновлений запис
-            loadUsers();
-            clearFields();
-            AlertController.showAlert("Користувача успішно оновлено!");
+            User previousUser = selectedUser;
+            User updatedUser = new User(previousUser.id(), username, hashedPassword, role, email, previousUser.createdAt());
+
+            // Перевірка унікальності (крім поточного користувача) та збереження виконуються у фоні
+            editButton.setDisable(true);
+            FxDataAccess.submit(
+                () -> {
+                    String conflict = findConflict(username.equals(previousUser.username()) ? null : username,
+                        email, previousUser.id());
+                    if (conflict == null) {
+                        userRepository.deleteUser(previousUser.username()); // Видаляємо старий запис
+                        userRepository.addUser(updatedUser); // Додаємо оновлений запис
+                    }
+                    return conflict;
+                },
+                conflict -> {
+                    editButton.setDisable(false);
+                    if (conflict != null) {
+                        AlertController.showAlert(conflict);
+                        return;
+                    }
+                    loadUsers();
+                    clearFields();
+                    AlertController.showAlert("Користувача успішно оновлено!");
+                },
+                error -> {
+                    editButton.setDisable(false);
+                    AlertController.showAlert("Помилка при редагуванні користувача: " + error.getMessage());
+                });
         } catch (Exception e) {
             AlertController.showAlert("Помилка при редагуванні користувача: " + e.getMessage());
         }
     }
 
+    // Виконується поза потоком JavaFX; повертає текст помилки або null, якщо ім'я та email вільні.
+    // username == null - ім'я не змінюється і не перевіряється
+    private String findConflict(String username, String email, UUID currentUserId) {
+        if (username != null) {
+            try {
+                userRepository.findByUsername(username);
+                return "Користувач з ім'ям " + username + " уже існує";
+            } catch (EntityNotFoundException e) {
+                // Ім'я вільне, продовжуємо
+            }
+        }
+        for (User user : userRepository.findAll()) {
+            if (!user.id().equals(currentUserId) && user.email().equalsIgnoreCase(email)) {
+                return "Користувач з email " + email + " уже існує";
+            }
+        }
+        return null;
+    }
+
     private void deleteUser() {
         if (selectedUser == null) {
             AlertController.showAlert("Будь ласка, виберіть користувача для видалення");
             return;
         }
 
-        try {
-            userRepository.deleteUser(selectedUser.username());
-            loadUsers();
-            clearFields();
-            AlertController.showAlert("Користувача успішно видалено!");
-        } catch (EntityNotFoundException e) {
-            AlertController.showAlert("Користувача не знайдено в базі даних");
-        } catch (Exception e) {
-            AlertController.showAlert("Помилка при видаленні користувача: " + e.getMessage());
-        }
+        String username = selectedUser.username();
+        deleteButton.setDisable(true);
+        FxDataAccess.submit(
+            () -> {
+                userRepository.deleteUser(username);
+                return null;
+            },
+            ignored -> {
+                loadUsers();
+                clearFields();
+                AlertController.showAlert("Користувача успішно видалено!");
+            },
+            error -> {
+                deleteButton.setDisable(false);
+                if (error instanceof EntityNotFoundException) {
+                    AlertController.showAlert("Користувача не знайдено в базі даних");
+                } else {
+                    AlertController.showAlert("Помилка при видаленні користувача: " + error.getMessage());
+                }
+            });
     }
 
     private void clearFields() {
@@ -0,0 +1,266 @@
+package com.metenkanich.fastfoodkiosk.presentation.image;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+
+/**
+ * Спільний для всього застосунку кеш зображень страв і категорій.
+ * Зображення декодується у фоновому пулі одразу в розмірі, в якому його показують
+ * (ключ - шлях разом із розміром), тому великі файли не тримаються в пам'яті
+ * в повній роздільності. Кеш обмежений обсягом декодованих пікселів і витісняє
+ * зображення, які найдовше не показувались. Одночасні запити того самого зображення
+ * чекають на одне декодування, а запасні зображення спільні для всіх карток.
+ * Зменшені копії також зберігаються на диску (ThumbnailStore), тож після перезапуску
+ * кіоску оригінали не декодуються повторно.
+ */
+public class ImageCache {
+
+  public static final String MENU_ITEM_FALLBACK = "/images/fast-food.jpg";
+  public static final String CATEGORY_FALLBACK = "/images/categories/category.png";
+  public static final String APP_ICON = "/images/burger.png";
+  // Розміри, в яких кіоск показує страву в меню (menu_item_card.fxml) і значок категорії
+  public static final double MENU_CARD_SIZE = 120;
+  public static final double CATEGORY_BUTTON_SIZE = 30;
+
+  private static final long MAX_BYTES = 32L * 1024 * 1024;
+  private static final int DECODER_THREADS = 2;
+  private static final double ICON_SIZE = 64;
+  // Розміри, в яких показують зображення: картка меню, картка кошика й попередній перегляд,
+  // кнопка категорії й попередній перегляд категорії
+  private static final double[] MENU_ITEM_SIZES = {MENU_CARD_SIZE, 100};
+  private static final double[] CATEGORY_SIZES = {CATEGORY_BUTTON_SIZE, 90};
+  // Ключ у властивостях ImageView: шлях, який зараз має показати цей вузол
+  private static final String REQUESTED_PATH = ImageCache.class.getName() + ".path";
+  private static ImageCache instance;
+
+  private final Map<Key, Image> cache = new LinkedHashMap<>(64, 0.75f, true);
+  private final Map<Key, CompletableFuture<Image>> inFlight = new ConcurrentHashMap<>();
+  private final ExecutorService decoder;
+  private final ThumbnailStore thumbnails;
+  private long cachedBytes;
+
+  private record Key(String path, int width, int height) {
+  }
+
+  private ImageCache() {
+    this.thumbnails = new ThumbnailStore(Path.of(System.getProperty("kiosk.thumbnails.dir", "db/thumbnails")));
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.decoder = Executors.newFixedThreadPool(DECODER_THREADS, runnable -> {
+      Thread thread = new Thread(runnable, "kiosk-image-decoder-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  public static synchronized ImageCache getInstance() {
+    if (instance == null) {
+      instance = new ImageCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Показує зображення в ImageView у розмірі fitWidth x fitHeight. Вже декодоване
+   * зображення встановлюється одразу, інакше - після фонового декодування, якщо вузол
+   * за цей час не отримав інше зображення (картки в ListView перевикористовуються).
+   * Викликається з потоку JavaFX.
+   */
+  public void show(ImageView view, String path, String fallbackPath) {
+    String requested = orFallback(path, fallbackPath);
+    double width = view.getFitWidth();
+    double height = view.getFitHeight();
+    view.getProperties().put(REQUESTED_PATH, requested);
+
+    Image cached = getIfPresent(requested, width, height);
+    if (cached != null) {
+      view.setImage(cached);
+      return;
+    }
+    // Поки декодується, замість попередньої страви показуємо запасне зображення
+    view.setImage(fallbackPath != null ? getIfPresent(fallbackPath, width, height) : null);
+    load(requested, fallbackPath, width, height).whenComplete((image, error) -> Platform.runLater(() -> {
+      if (requested.equals(view.getProperties().get(REQUESTED_PATH))) {
+        view.setImage(image);
+      }
+    }));
+  }
+
+  // Іконка вікна додається, щойно декодується, не затримуючи показ вікна
+  public void addStageIcon(Stage stage) {
+    load(APP_ICON, null, ICON_SIZE, ICON_SIZE).thenAccept(icon -> Platform.runLater(() -> {
+      if (icon != null) {
+        stage.getIcons().add(icon);
+      }
+    }));
+  }
+
+  // Після збереження страви чи категорії адміністратором готує мініатюри заздалегідь,
+  // щоб кіоски показали нове зображення без декодування оригіналу
+  public void prepareMenuItemThumbnails(String path) {
+    prepareThumbnails(path, MENU_ITEM_SIZES);
+  }
+
+  public void prepareCategoryThumbnails(String path) {
+    prepareThumbnails(path, CATEGORY_SIZES);
+  }
+
+  private void prepareThumbnails(String path, double[] sizes) {
+    if (path == null || path.trim().isEmpty()) {
+      return;
+    }
+    for (double size : sizes) {
+      decode(key(path, size, size));
+    }
+  }
+
+  // Декодоване зображення з кешу або null
+  public Image getIfPresent(String path, double width, double height) {
+    Key key = key(path, width, height);
+    synchronized (cache) {
+      return cache.get(key);
+    }
+  }
+
+  /**
+   * Декодує зображення у фоні; якщо його немає або воно пошкоджене, повертає запасне
+   * того самого розміру. Future завершується з null, коли не вдалося жодне з них.
+   */
+  public CompletableFuture<Image> load(String path, String fallbackPath, double width, double height) {
+    String requested = orFallback(path, fallbackPath);
+    return decode(key(requested, width, height)).thenCompose(image -> {
+      if (image != null || fallbackPath == null || fallbackPath.equals(requested)) {
+        return CompletableFuture.completedFuture(image);
+      }
+      return decode(key(fallbackPath, width, height));
+    });
+  }
+
+  private CompletableFuture<Image> decode(Key key) {
+    Image cached;
+    synchronized (cache) {
+      cached = cache.get(key);
+    }
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    return inFlight.computeIfAbsent(key, k -> {
+      CompletableFuture<Image> future = new CompletableFuture<>();
+      decoder.execute(() -> {
+        Image image = read(k);
+        // Спершу кладемо в кеш, потім знімаємо з inFlight, щоб не було повторного декодування
+        if (image != null) {
+          put(k, image);
+        }
+        inFlight.remove(k);
+        future.complete(image);
+      });
+      return future;
+    });
+  }
+
+  private Image read(Key key) {
+    try {
+      URL resource = key.path().startsWith("/") ? getClass().getResource(key.path()) : null;
+      File file = new File(key.path().startsWith("file:") ? key.path().substring(5) : key.path());
+      if (resource == null && !file.isFile()) {
+        System.err.println("Зображення не знайдено ні як ресурс, ні як файл: " + key.path());
+        return null;
+      }
+      // Мініатюри зберігаються лише для зображень із заданим розміром показу
+      boolean sized = key.width() > 0 && key.height() > 0;
+      long modified = resource != null ? lastModified(resource) : file.lastModified();
+      if (sized && modified > 0) {
+        Image thumbnail = thumbnails.read(key.path(), modified, key.width(), key.height());
+        if (thumbnail != null) {
+          return thumbnail;
+        }
+      }
+
+      Image image;
+      try (InputStream inputStream = resource != null ? resource.openStream() : new FileInputStream(file)) {
+        image = new Image(inputStream, key.width(), key.height(), true, true);
+      }
+      if (image.isError()) {
+        System.err.println("Помилка декодування зображення: " + key.path());
+        return null;
+      }
+      if (sized && modified > 0) {
+        thumbnails.write(key.path(), modified, key.width(), key.height(), image);
+      }
+      return image;
+    } catch (Exception e) {
+      System.err.println("Помилка завантаження зображення з шляху: " + key.path() + ", error: " + e.getMessage());
+      return null;
+    }
+  }
+
+  // Час зміни ресурсу: запису в jar або файлу в каталозі classes. Вміст ресурсу не читається:
+  // час запису береться з каталогу jar (сам jar уже відкритий завантажувачем класів),
+  // а час файлу - з файлової системи
+  private static long lastModified(URL resource) {
+    try {
+      if ("file".equals(resource.getProtocol())) {
+        return new File(resource.toURI()).lastModified();
+      }
+      URLConnection connection = resource.openConnection();
+      if (connection instanceof JarURLConnection jarConnection) {
+        JarEntry entry = jarConnection.getJarEntry();
+        return entry != null ? entry.getTime() : 0;
+      }
+      return connection.getLastModified();
+    } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+      return 0;
+    }
+  }
+
+  private void put(Key key, Image image) {
+    long bytes = bytesOf(image);
+    synchronized (cache) {
+      Image previous = cache.put(key, image);
+      if (previous != null) {
+        cachedBytes -= bytesOf(previous);
+      }
+      cachedBytes += bytes;
+      // Витісняємо найдавніше показані, але щойно декодоване лишаємо навіть понад ліміт
+      Iterator<Map.Entry<Key, Image>> eldest = cache.entrySet().iterator();
+      while (cachedBytes > MAX_BYTES && cache.size() > 1) {
+        Map.Entry<Key, Image> entry = eldest.next();
+        cachedBytes -= bytesOf(entry.getValue());
+        eldest.remove();
+      }
+    }
+  }
+
+  // Пікселі зберігаються як 32-бітний ARGB
+  private static long bytesOf(Image image) {
+    return (long) image.getWidth() * (long) image.getHeight() * 4;
+  }
+
+  private static String orFallback(String path, String fallbackPath) {
+    return path != null && !path.trim().isEmpty() ? path : fallbackPath;
+  }
+
+  private static Key key(String path, double width, double height) {
+    return new Key(path, (int) Math.ceil(width), (int) Math.ceil(height));
+  }
+}
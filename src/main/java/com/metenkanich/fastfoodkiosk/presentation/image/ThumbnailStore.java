@@ -0,0 +1,118 @@
+package com.metenkanich.fastfoodkiosk.presentation.image;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Зменшені копії зображень на диску, щоб під час запуску не декодувати оригінали JPEG/PNG.
+ * Файл містить заголовок (сигнатура, ширина, висота) і пікселі у форматі BGRA
+ * з попередньо помноженою альфою - у тому, що JavaFX використовує сам, тому читання
+ * зводиться до відображення файлу в пам'ять і одного копіювання.
+ * Ім'я файлу будується з шляху і розміру, а суфікс - з часу зміни оригіналу,
+ * тож змінене зображення просто отримує нову мініатюру, а стара видаляється.
+ */
+final class ThumbnailStore {
+
+  private static final int MAGIC = 0x4B544842;
+  private static final int HEADER_BYTES = 3 * Integer.BYTES;
+  private static final String EXTENSION = ".bgra";
+
+  private final Path directory;
+
+  ThumbnailStore(Path directory) {
+    this.directory = directory;
+  }
+
+  // Мініатюра, якщо вона є і створена з поточної версії оригіналу, інакше null
+  Image read(String path, long modified, int width, int height) {
+    Path file = fileFor(path, modified, width, height);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.BIG_ENDIAN);
+      if (channel.size() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+        return null;
+      }
+      int imageWidth = buffer.getInt();
+      int imageHeight = buffer.getInt();
+      if (imageWidth <= 0 || imageHeight <= 0
+          || channel.size() != HEADER_BYTES + (long) imageWidth * imageHeight * 4) {
+        return null;
+      }
+      WritableImage image = new WritableImage(imageWidth, imageHeight);
+      image.getPixelWriter().setPixels(0, 0, imageWidth, imageHeight,
+          PixelFormat.getByteBgraPreInstance(), buffer, imageWidth * 4);
+      return image;
+    } catch (IOException | RuntimeException e) {
+      System.err.println("Не вдалося прочитати мініатюру " + file + ": " + e.getMessage());
+      return null;
+    }
+  }
+
+  void write(String path, long modified, int width, int height, Image image) {
+    Path file = fileFor(path, modified, width, height);
+    int imageWidth = (int) image.getWidth();
+    int imageHeight = (int) image.getHeight();
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + imageWidth * imageHeight * 4);
+    buffer.putInt(MAGIC).putInt(imageWidth).putInt(imageHeight);
+    image.getPixelReader().getPixels(0, 0, imageWidth, imageHeight,
+        PixelFormat.getByteBgraPreInstance(), buffer, imageWidth * 4);
+    buffer.rewind();
+    try {
+      Files.createDirectories(directory);
+      // Пишемо в тимчасовий файл і перейменовуємо, щоб інший процес не прочитав половину
+      Path temp = Files.createTempFile(directory, "thumb", ".tmp");
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      try {
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      deleteStale(file);
+    } catch (IOException e) {
+      System.err.println("Не вдалося зберегти мініатюру " + file + ": " + e.getMessage());
+    }
+  }
+
+  // Видаляє мініатюри того самого зображення і розміру, створені з попередніх версій оригіналу
+  private void deleteStale(Path current) {
+    String name = current.getFileName().toString();
+    String prefix = name.substring(0, name.lastIndexOf('-') + 1);
+    try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, prefix + "*" + EXTENSION)) {
+      for (Path file : stale) {
+        if (!file.equals(current)) {
+          // На Windows файл, який ще відображений у пам'ять, видалити не вдасться - не страшно
+          Files.deleteIfExists(file);
+        }
+      }
+    } catch (IOException e) {
+      System.err.println("Не вдалося видалити застарілі мініатюри: " + e.getMessage());
+    }
+  }
+
+  private Path fileFor(String path, long modified, int width, int height) {
+    String key = path + '|' + width + 'x' + height;
+    UUID name = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    return directory.resolve(name + "-" + Long.toHexString(modified) + EXTENSION);
+  }
+}
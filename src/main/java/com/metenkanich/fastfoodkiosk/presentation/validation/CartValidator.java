@@ -1,7 +1,9 @@
 package com.metenkanich.fastfoodkiosk.presentation.validation;
 
+import com.metenkanich.fastfoodkiosk.domain.money.Money;
+import com.metenkanich.fastfoodkiosk.domain.service.SessionCart;
 import com.metenkanich.fastfoodkiosk.persistence.entity.Cart;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CartRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CartRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -9,9 +11,11 @@ import java.util.UUID;
 public class CartValidator {
     // Константи для валідації
     private static final int MIN_QUANTITY = 1;
-    private static final int MAX_QUANTITY = 100;
-    private static final double MIN_SUBTOTAL = 0.01;
-    private static final double MAX_SUBTOTAL = 100000.00;
+    // Та сама межа, яку кошик сесії застосовує при додаванні
+    private static final int MAX_QUANTITY = SessionCart.MAX_QUANTITY;
+    // Суми в копійках
+    private static final long MIN_SUBTOTAL = 1;
+    private static final long MAX_SUBTOTAL = 10_000_000;
 
     // Перевірка ідентифікатора кошика
     public static ValidationResult isCartIdValid(UUID cartId, boolean isExisting) {
@@ -56,18 +60,18 @@ public class CartValidator {
     }
 
     // Перевірка субтоталу
-    public static ValidationResult isSubtotalValid(double subtotal) {
+    public static ValidationResult isSubtotalValid(long subtotal) {
         List<String> errors = new ArrayList<>();
         if (subtotal < MIN_SUBTOTAL) {
-            errors.add("Субтотал (" + subtotal + ") повинен бути не меншим за " + MIN_SUBTOTAL);
+            errors.add("Субтотал (" + Money.format(subtotal) + ") повинен бути не меншим за " + Money.format(MIN_SUBTOTAL));
         }
         if (subtotal > MAX_SUBTOTAL) {
-            errors.add("Субтотал (" + subtotal + ") не може перевищувати " + MAX_SUBTOTAL);
+            errors.add("Субтотал (" + Money.format(subtotal) + ") не може перевищувати " + Money.format(MAX_SUBTOTAL));
         }
         return new ValidationResult(errors.isEmpty(), errors);
     }
     // Повна валідація об'єкта Cart
-    public static ValidationResult isCartValid(Cart cart, boolean isExisting, CartRepositoryImpl repository) {
+    public static ValidationResult isCartValid(Cart cart, boolean isExisting, CartRepository repository) {
         if (cart == null) {
             List<String> errors = new ArrayList<>();
             errors.add("Кошик не може бути відсутнім");
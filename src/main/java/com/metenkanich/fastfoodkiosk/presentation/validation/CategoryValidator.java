@@ -1,7 +1,7 @@
 package com.metenkanich.fastfoodkiosk.presentation.validation;
 
 import com.metenkanich.fastfoodkiosk.persistence.entity.Category;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.CategoryRepositoryImpl;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.CategoryRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -46,7 +46,7 @@ public class CategoryValidator {
   }
 
   // Перевірка унікальності назви категорії
-  public static ValidationResult isNameUnique(String name, UUID categoryId, CategoryRepositoryImpl repository) {
+  public static ValidationResult isNameUnique(String name, UUID categoryId, CategoryRepository repository) {
     ValidationResult nameValidation = isNameValid(name);
     if (!nameValidation.isValid()) {
       return nameValidation;
@@ -115,7 +115,7 @@ public class CategoryValidator {
   }
 
   // Повна валідація об'єкта Category
-  public static ValidationResult isCategoryValid(Category category, boolean isExisting, CategoryRepositoryImpl repository) {
+  public static ValidationResult isCategoryValid(Category category, boolean isExisting, CategoryRepository repository) {
     if (category == null) {
       List<String> errors = new ArrayList<>();
       errors.add("Категорія не може бути відсутньою");
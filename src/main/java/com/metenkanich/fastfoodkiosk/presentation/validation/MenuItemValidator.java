@@ -1,8 +1,7 @@
 package com.metenkanich.fastfoodkiosk.presentation.validation;
 
 import com.metenkanich.fastfoodkiosk.persistence.entity.MenuItem;
-import com.metenkanich.fastfoodkiosk.persistence.repository.impl.MenuItemRepositoryImpl;
-import java.math.BigDecimal;
+import com.metenkanich.fastfoodkiosk.persistence.repository.contract.MenuItemRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -49,19 +48,15 @@ public class MenuItemValidator {
     return new ValidationResult(errors.isEmpty(), errors);
   }
 
-  public static ValidationResult isPriceValid(BigDecimal price) {
+  public static ValidationResult isPriceValid(long price) {
     List<String> errors = new ArrayList<>();
-    if (price == null) {
-      errors.add("Ціна пункту меню не може бути відсутньою");
-      return new ValidationResult(false, errors);
-    }
-    if (price.compareTo(BigDecimal.ZERO) <= 0) {
+    if (price <= 0) {
       errors.add("Ціна пункту меню повинна бути більше нуля");
     }
     return new ValidationResult(errors.isEmpty(), errors);
   }
 
-  public static ValidationResult isNameUnique(String name, UUID itemId, MenuItemRepositoryImpl repository) {
+  public static ValidationResult isNameUnique(String name, UUID itemId, MenuItemRepository repository) {
     ValidationResult nameValidation = isNameValid(name);
     if (!nameValidation.isValid()) {
       return nameValidation;
@@ -92,7 +87,7 @@ public class MenuItemValidator {
     return new ValidationResult(true);
   }
 
-  public static ValidationResult isMenuItemValid(MenuItem menuItem, boolean isExisting, MenuItemRepositoryImpl repository) {
+  public static ValidationResult isMenuItemValid(MenuItem menuItem, boolean isExisting, MenuItemRepository repository) {
     if (menuItem == null) {
       List<String> errors = new ArrayList<>();
       errors.add("Пункт меню не може бути відсутнім");
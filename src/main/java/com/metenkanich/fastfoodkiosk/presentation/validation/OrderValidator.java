@@ -1,7 +1,6 @@
 package com.metenkanich.fastfoodkiosk.presentation.validation;
 
 import com.metenkanich.fastfoodkiosk.persistence.entity.Order;
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -16,13 +15,9 @@ public class OrderValidator {
     return new ValidationResult(true);
   }
 
-  public static ValidationResult isTotalPriceValid(BigDecimal totalPrice) {
+  public static ValidationResult isTotalPriceValid(long totalPrice) {
     List<String> errors = new ArrayList<>();
-    if (totalPrice == null) {
-      errors.add("Загальна сума замовлення не може бути відсутньою");
-      return new ValidationResult(false, errors);
-    }
-    if (totalPrice.compareTo(BigDecimal.ZERO) < 0) {
+    if (totalPrice < 0) {
       errors.add("Загальна сума замовлення не може бути від'ємною");
     }
     return new ValidationResult(errors.isEmpty(), errors);
@@ -0,0 +1,11 @@
+package com.metenkanich.fastfoodkiosk.presentation.view;
+
+/**
+ * Контролер розмітки, яку ViewRegistry показує повторно. refresh() викликається
+ * в потоці JavaFX щоразу, коли вже завантажений розділ знову з'являється на екрані,
+ * і має оновити дані, які могли змінитися за час відсутності.
+ */
+public interface RefreshableView {
+
+  void refresh();
+}
@@ -0,0 +1,95 @@
+package com.metenkanich.fastfoodkiosk.presentation.view;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+
+/**
+ * Розділи головного меню, завантажені один раз. Розмітка розбирається під час першого
+ * показу (або заздалегідь через preloadLater), а вузли й контролер живуть, доки живе вікно,
+ * тож перемикання між розділами лише замінює вміст області й викликає refresh().
+ * Усі методи викликаються з потоку JavaFX.
+ */
+public class ViewRegistry {
+
+  private record View(Parent root, Object controller) {
+  }
+
+  private final Pane contentArea;
+  private final Map<String, View> views = new HashMap<>();
+  private final Deque<String> preloadQueue = new ArrayDeque<>();
+  // Розділи, які вже показувались; попередньо завантажений розділ у views, але ще не тут
+  private final Set<String> shown = new HashSet<>();
+
+  public ViewRegistry(Pane contentArea) {
+    this.contentArea = contentArea;
+  }
+
+  // Показує розділ; при повторному показі оновлює його дані. Під час першого показу дані
+  // щойно завантажив initialize(), навіть якщо розділ було завантажено заздалегідь
+  public void show(String fxml) throws IOException {
+    View view = views.get(fxml);
+    if (view == null) {
+      view = load(fxml);
+    }
+    boolean firstShow = shown.add(fxml);
+    contentArea.getChildren().setAll(view.root());
+    if (!firstShow && view.controller() instanceof RefreshableView refreshable) {
+      refresh(refreshable);
+    }
+  }
+
+  /**
+   * Завантажує розділи у фоновому режимі по одному за прохід потоку JavaFX, щоб не
+   * затримувати обробку подій. Розділи, які користувач уже відкрив, пропускаються.
+   */
+  public void preloadLater(Collection<String> fxmls) {
+    boolean idle = preloadQueue.isEmpty();
+    preloadQueue.addAll(fxmls);
+    if (idle) {
+      Platform.runLater(this::preloadNext);
+    }
+  }
+
+  private void preloadNext() {
+    String fxml = preloadQueue.poll();
+    if (fxml == null) {
+      return;
+    }
+    if (!views.containsKey(fxml)) {
+      try {
+        load(fxml);
+      } catch (IOException e) {
+        System.err.println("Не вдалося попередньо завантажити " + fxml + ": " + e.getMessage());
+      }
+    }
+    if (!preloadQueue.isEmpty()) {
+      Platform.runLater(this::preloadNext);
+    }
+  }
+
+  private View load(String fxml) throws IOException {
+    FXMLLoader loader = new FXMLLoader(getClass().getResource(fxml));
+    Parent root = loader.load();
+    View view = new View(root, loader.getController());
+    views.put(fxml, view);
+    return view;
+  }
+
+  private static void refresh(RefreshableView view) {
+    try {
+      view.refresh();
+    } catch (RuntimeException e) {
+      System.err.println("Не вдалося оновити розділ: " + e.getMessage());
+    }
+  }
+}
@@ -1,3 +1,4 @@
+DROP TABLE IF EXISTS OrderLines;
 DROP TABLE IF EXISTS Payments;
 DROP TABLE IF EXISTS Cart;
 DROP TABLE IF EXISTS Orders;
@@ -6,57 +7,77 @@ DROP TABLE IF EXISTS Users;
 DROP TABLE IF EXISTS Categories;
 
 CREATE TABLE Users (
-    user_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
     role VARCHAR(20) NOT NULL DEFAULT 'USER' CHECK(role IN ('USER', 'ADMIN')),
     email VARCHAR(100) UNIQUE,
-    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP
-);
+    created_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('now', 'subsec') * 1000 AS INTEGER))
+) WITHOUT ROWID;
 
 CREATE TABLE Categories (
-    category_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    category_id BLOB NOT NULL PRIMARY KEY,
     category_name VARCHAR(50) NOT NULL,
     image_path VARCHAR(255)
-);
+) WITHOUT ROWID;
 
 CREATE TABLE MenuItems (
-    item_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    item_id BLOB NOT NULL PRIMARY KEY,
     name VARCHAR(50) NOT NULL,
     description VARCHAR(255),
-    price REAL NOT NULL,
-    category_id VARCHAR(36),
+    price INTEGER NOT NULL,
+    category_id BLOB,
     is_available INTEGER DEFAULT 1,
     image_path VARCHAR(255),
     default_portion_size VARCHAR(20) DEFAULT 'MEDIUM' CHECK(default_portion_size IN ('SMALL', 'MEDIUM', 'LARGE', 'EXTRA_LARGE')),
     FOREIGN KEY (category_id) REFERENCES Categories(category_id)
-);
+) WITHOUT ROWID;
 
 CREATE TABLE Orders (
-    order_id VARCHAR(36) NOT NULL PRIMARY KEY,
-    user_id VARCHAR(36) NOT NULL,
-    total_price REAL NOT NULL,
+    order_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    total_price INTEGER NOT NULL,
     status VARCHAR(20) NOT NULL CHECK(status IN ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'DELIVERED', 'CANCELLED')),
-    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('now', 'subsec') * 1000 AS INTEGER)),
     FOREIGN KEY (user_id) REFERENCES Users(user_id)
-);
+) WITHOUT ROWID;
 
 CREATE TABLE Cart (
-    cart_id VARCHAR(36) NOT NULL PRIMARY KEY,
-    user_id VARCHAR(36) NOT NULL,
-    item_id VARCHAR(36) NOT NULL,
+    cart_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    item_id BLOB NOT NULL,
     quantity INTEGER NOT NULL,
-    subtotal REAL NOT NULL,
+    subtotal INTEGER NOT NULL,
     is_ordered INTEGER DEFAULT 0 NOT NULL,
     FOREIGN KEY (user_id) REFERENCES Users(user_id),
     FOREIGN KEY (item_id) REFERENCES MenuItems(item_id)
-);
+) WITHOUT ROWID;
 
 CREATE TABLE Payments (
-    id VARCHAR(36) NOT NULL PRIMARY KEY,
-    cart_id VARCHAR(36) NOT NULL UNIQUE,
+    id BLOB NOT NULL PRIMARY KEY,
+    cart_id BLOB NOT NULL UNIQUE,
     payment_method VARCHAR(50) NOT NULL,
     payment_status VARCHAR(20) DEFAULT 'PENDING' CHECK(payment_status IN ('PENDING', 'COMPLETED', 'FAILED')),
-    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('now', 'subsec') * 1000 AS INTEGER)),
     FOREIGN KEY (cart_id) REFERENCES Cart(cart_id)
-);
\ No newline at end of file
+) WITHOUT ROWID;
+
+CREATE TABLE OrderLines (
+    cart_id BLOB NOT NULL PRIMARY KEY,
+    order_id BLOB NOT NULL,
+    FOREIGN KEY (cart_id) REFERENCES Cart(cart_id),
+    FOREIGN KEY (order_id) REFERENCES Orders(order_id)
+) WITHOUT ROWID;
+
+CREATE INDEX idx_order_lines_order_id ON OrderLines(order_id);
+
+CREATE INDEX idx_cart_user_id_is_ordered ON Cart(user_id, is_ordered);
+CREATE INDEX idx_cart_item_id ON Cart(item_id);
+CREATE INDEX idx_menu_items_category_id ON MenuItems(category_id);
+CREATE INDEX idx_orders_user_id_created_at ON Orders(user_id, created_at);
+CREATE INDEX idx_orders_created_at ON Orders(created_at, order_id);
+CREATE INDEX idx_orders_status_created_at ON Orders(status, created_at, order_id);
+CREATE INDEX idx_payments_created_at ON Payments(created_at);
+
+-- Схема вже в останній версії, тож SchemaMigrator не застосовує до неї міграції
+PRAGMA user_version = 6;
@@ -0,0 +1,26 @@
+-- Явний зв'язок замовлення з елементами кошика
+CREATE TABLE IF NOT EXISTS OrderLines (
+    cart_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    order_id VARCHAR(36) NOT NULL,
+    FOREIGN KEY (cart_id) REFERENCES Cart(cart_id),
+    FOREIGN KEY (order_id) REFERENCES Orders(order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_lines_order_id ON OrderLines(order_id);
+
+-- Заповнення для вже оформлених замовлень: кожен оплачений елемент кошика
+-- прив'язується до найближчого за часом замовлення того ж користувача
+INSERT OR IGNORE INTO OrderLines (cart_id, order_id)
+SELECT cart_id, order_id FROM (
+    SELECT c.cart_id AS cart_id,
+           o.order_id AS order_id,
+           ROW_NUMBER() OVER (
+               PARTITION BY c.cart_id
+               ORDER BY abs(julianday(replace(o.created_at, '+00', '')) - julianday(replace(p.created_at, '+00', '')))
+           ) AS closeness
+    FROM Cart c
+    INNER JOIN Payments p ON p.cart_id = c.cart_id
+    INNER JOIN Orders o ON o.user_id = c.user_id
+    WHERE c.is_ordered = 1
+)
+WHERE closeness = 1;
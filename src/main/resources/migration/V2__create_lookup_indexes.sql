@@ -0,0 +1,10 @@
+-- Вторинні індекси для найчастіших запитів кошика, меню, замовлень та платежів
+CREATE INDEX IF NOT EXISTS idx_cart_user_id_is_ordered ON Cart(user_id, is_ordered);
+CREATE INDEX IF NOT EXISTS idx_cart_item_id ON Cart(item_id);
+CREATE INDEX IF NOT EXISTS idx_menu_items_category_id ON MenuItems(category_id);
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_created_at ON Orders(user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_status ON Orders(status);
+CREATE INDEX IF NOT EXISTS idx_payments_created_at ON Payments(created_at);
+
+-- Оновлюємо статистику, щоб планувальник одразу використовував нові індекси
+ANALYZE;
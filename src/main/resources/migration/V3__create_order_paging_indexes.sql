@@ -0,0 +1,8 @@
+-- Індекси для посторінкового перегляду замовлень: ключ сортування разом з order_id,
+-- щоб keyset-пагінація йшла по індексу без сортування всієї таблиці
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON Orders(created_at, order_id);
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON Orders(status, created_at, order_id);
+-- Покривається префіксом idx_orders_status_created_at
+DROP INDEX IF EXISTS idx_orders_status;
+
+ANALYZE;
@@ -0,0 +1,121 @@
+-- Ідентифікатори з тексту VARCHAR(36) у 16-байтові BLOB. SQLite не змінює тип колонки,
+-- тому кожна таблиця перебудовується: нова таблиця, копіювання з unhex, заміна старої.
+-- Таблиці стають WITHOUT ROWID: первинний ключ і є B-дерево таблиці, окремий індекс не потрібен.
+-- Зовнішні ключі в нових таблицях одразу посилаються на кінцеві імена таблиць.
+CREATE TABLE Users_new (
+    user_id BLOB NOT NULL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(20) NOT NULL DEFAULT 'USER' CHECK(role IN ('USER', 'ADMIN')),
+    email VARCHAR(100) UNIQUE,
+    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITHOUT ROWID;
+
+CREATE TABLE Categories_new (
+    category_id BLOB NOT NULL PRIMARY KEY,
+    category_name VARCHAR(50) NOT NULL,
+    image_path VARCHAR(255)
+) WITHOUT ROWID;
+
+CREATE TABLE MenuItems_new (
+    item_id BLOB NOT NULL PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    price REAL NOT NULL,
+    category_id BLOB,
+    is_available INTEGER DEFAULT 1,
+    image_path VARCHAR(255),
+    default_portion_size VARCHAR(20) DEFAULT 'MEDIUM' CHECK(default_portion_size IN ('SMALL', 'MEDIUM', 'LARGE', 'EXTRA_LARGE')),
+    FOREIGN KEY (category_id) REFERENCES Categories(category_id)
+) WITHOUT ROWID;
+
+CREATE TABLE Orders_new (
+    order_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    total_price REAL NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK(status IN ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'DELIVERED', 'CANCELLED')),
+    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES Users(user_id)
+) WITHOUT ROWID;
+
+CREATE TABLE Cart_new (
+    cart_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    item_id BLOB NOT NULL,
+    quantity INTEGER NOT NULL,
+    subtotal REAL NOT NULL,
+    is_ordered INTEGER DEFAULT 0 NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES Users(user_id),
+    FOREIGN KEY (item_id) REFERENCES MenuItems(item_id)
+) WITHOUT ROWID;
+
+CREATE TABLE Payments_new (
+    id BLOB NOT NULL PRIMARY KEY,
+    cart_id BLOB NOT NULL UNIQUE,
+    payment_method VARCHAR(50) NOT NULL,
+    payment_status VARCHAR(20) DEFAULT 'PENDING' CHECK(payment_status IN ('PENDING', 'COMPLETED', 'FAILED')),
+    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (cart_id) REFERENCES Cart(cart_id)
+) WITHOUT ROWID;
+
+CREATE TABLE OrderLines_new (
+    cart_id BLOB NOT NULL PRIMARY KEY,
+    order_id BLOB NOT NULL,
+    FOREIGN KEY (cart_id) REFERENCES Cart(cart_id),
+    FOREIGN KEY (order_id) REFERENCES Orders(order_id)
+) WITHOUT ROWID;
+
+-- Старі ідентифікатори - текст UUID з дефісами, unhex повертає їх 16 байтів у тому ж порядку
+INSERT INTO Users_new (user_id, username, password, role, email, created_at)
+SELECT unhex(replace(user_id, '-', '')), username, password, role, email, created_at FROM Users;
+
+INSERT INTO Categories_new (category_id, category_name, image_path)
+SELECT unhex(replace(category_id, '-', '')), category_name, image_path FROM Categories;
+
+INSERT INTO MenuItems_new (item_id, name, description, price, category_id, is_available, image_path, default_portion_size)
+SELECT unhex(replace(item_id, '-', '')), name, description, price, unhex(replace(category_id, '-', '')),
+       is_available, image_path, default_portion_size
+FROM MenuItems;
+
+INSERT INTO Orders_new (order_id, user_id, total_price, status, created_at)
+SELECT unhex(replace(order_id, '-', '')), unhex(replace(user_id, '-', '')), total_price, status, created_at FROM Orders;
+
+INSERT INTO Cart_new (cart_id, user_id, item_id, quantity, subtotal, is_ordered)
+SELECT unhex(replace(cart_id, '-', '')), unhex(replace(user_id, '-', '')), unhex(replace(item_id, '-', '')),
+       quantity, subtotal, is_ordered
+FROM Cart;
+
+INSERT INTO Payments_new (id, cart_id, payment_method, payment_status, created_at)
+SELECT unhex(replace(id, '-', '')), unhex(replace(cart_id, '-', '')), payment_method, payment_status, created_at
+FROM Payments;
+
+INSERT INTO OrderLines_new (cart_id, order_id)
+SELECT unhex(replace(cart_id, '-', '')), unhex(replace(order_id, '-', '')) FROM OrderLines;
+
+-- Індекси видаляються разом зі старими таблицями
+DROP TABLE OrderLines;
+DROP TABLE Payments;
+DROP TABLE Cart;
+DROP TABLE Orders;
+DROP TABLE MenuItems;
+DROP TABLE Categories;
+DROP TABLE Users;
+
+ALTER TABLE Users_new RENAME TO Users;
+ALTER TABLE Categories_new RENAME TO Categories;
+ALTER TABLE MenuItems_new RENAME TO MenuItems;
+ALTER TABLE Orders_new RENAME TO Orders;
+ALTER TABLE Cart_new RENAME TO Cart;
+ALTER TABLE Payments_new RENAME TO Payments;
+ALTER TABLE OrderLines_new RENAME TO OrderLines;
+
+CREATE INDEX idx_order_lines_order_id ON OrderLines(order_id);
+CREATE INDEX idx_cart_user_id_is_ordered ON Cart(user_id, is_ordered);
+CREATE INDEX idx_cart_item_id ON Cart(item_id);
+CREATE INDEX idx_menu_items_category_id ON MenuItems(category_id);
+CREATE INDEX idx_orders_user_id_created_at ON Orders(user_id, created_at);
+CREATE INDEX idx_orders_created_at ON Orders(created_at, order_id);
+CREATE INDEX idx_orders_status_created_at ON Orders(status, created_at, order_id);
+CREATE INDEX idx_payments_created_at ON Payments(created_at);
+
+ANALYZE;
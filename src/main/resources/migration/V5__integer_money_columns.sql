@@ -0,0 +1,62 @@
+-- Грошові колонки з REAL у цілі копійки. Як і в V4, таблиці перебудовуються, бо SQLite
+-- не змінює тип колонки, а в колонці з REAL-спорідненістю ціле число знову стало б REAL.
+-- round() прибирає похибку двійкового подання (89.99 * 100 = 8998.999...).
+CREATE TABLE MenuItems_new (
+    item_id BLOB NOT NULL PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    price INTEGER NOT NULL,
+    category_id BLOB,
+    is_available INTEGER DEFAULT 1,
+    image_path VARCHAR(255),
+    default_portion_size VARCHAR(20) DEFAULT 'MEDIUM' CHECK(default_portion_size IN ('SMALL', 'MEDIUM', 'LARGE', 'EXTRA_LARGE')),
+    FOREIGN KEY (category_id) REFERENCES Categories(category_id)
+) WITHOUT ROWID;
+
+CREATE TABLE Orders_new (
+    order_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    total_price INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK(status IN ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'DELIVERED', 'CANCELLED')),
+    created_at VARCHAR(26) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES Users(user_id)
+) WITHOUT ROWID;
+
+CREATE TABLE Cart_new (
+    cart_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    item_id BLOB NOT NULL,
+    quantity INTEGER NOT NULL,
+    subtotal INTEGER NOT NULL,
+    is_ordered INTEGER DEFAULT 0 NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES Users(user_id),
+    FOREIGN KEY (item_id) REFERENCES MenuItems(item_id)
+) WITHOUT ROWID;
+
+INSERT INTO MenuItems_new (item_id, name, description, price, category_id, is_available, image_path, default_portion_size)
+SELECT item_id, name, description, CAST(round(price * 100) AS INTEGER), category_id, is_available, image_path,
+       default_portion_size
+FROM MenuItems;
+
+INSERT INTO Orders_new (order_id, user_id, total_price, status, created_at)
+SELECT order_id, user_id, CAST(round(total_price * 100) AS INTEGER), status, created_at FROM Orders;
+
+INSERT INTO Cart_new (cart_id, user_id, item_id, quantity, subtotal, is_ordered)
+SELECT cart_id, user_id, item_id, quantity, CAST(round(subtotal * 100) AS INTEGER), is_ordered FROM Cart;
+
+DROP TABLE Cart;
+DROP TABLE Orders;
+DROP TABLE MenuItems;
+
+ALTER TABLE MenuItems_new RENAME TO MenuItems;
+ALTER TABLE Orders_new RENAME TO Orders;
+ALTER TABLE Cart_new RENAME TO Cart;
+
+CREATE INDEX idx_cart_user_id_is_ordered ON Cart(user_id, is_ordered);
+CREATE INDEX idx_cart_item_id ON Cart(item_id);
+CREATE INDEX idx_menu_items_category_id ON MenuItems(category_id);
+CREATE INDEX idx_orders_user_id_created_at ON Orders(user_id, created_at);
+CREATE INDEX idx_orders_created_at ON Orders(created_at, order_id);
+CREATE INDEX idx_orders_status_created_at ON Orders(status, created_at, order_id);
+
+ANALYZE;
@@ -0,0 +1,91 @@
+-- created_at з тексту VARCHAR(26) у INTEGER - мілісекунди від початку епохи (UTC).
+-- Таблиці перебудовуються так само, як у V4 і V5. У старих даних трапляються чотири види значень:
+-- мілісекунди текстом (setTimestamp), "2025-04-30 12:30:00", ISO з 'T' та частками секунди
+-- і "2025-04-30 12:30:00+00" зі зсувом. Дата без зсуву - це місцевий час, у якому її записав
+-- застосунок, тому вона переводиться в UTC модифікатором 'utc'. Зсув "+00" SQLite розуміє
+-- лише у вигляді "+00:00", тож до нього дописується ":00".
+-- Значення, яке не вдалося розібрати, раніше показувалось як поточний час - так його й збережено.
+CREATE TABLE Users_new (
+    user_id BLOB NOT NULL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(20) NOT NULL DEFAULT 'USER' CHECK(role IN ('USER', 'ADMIN')),
+    email VARCHAR(100) UNIQUE,
+    created_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('now', 'subsec') * 1000 AS INTEGER))
+) WITHOUT ROWID;
+
+CREATE TABLE Orders_new (
+    order_id BLOB NOT NULL PRIMARY KEY,
+    user_id BLOB NOT NULL,
+    total_price INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK(status IN ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'DELIVERED', 'CANCELLED')),
+    created_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('now', 'subsec') * 1000 AS INTEGER)),
+    FOREIGN KEY (user_id) REFERENCES Users(user_id)
+) WITHOUT ROWID;
+
+CREATE TABLE Payments_new (
+    id BLOB NOT NULL PRIMARY KEY,
+    cart_id BLOB NOT NULL UNIQUE,
+    payment_method VARCHAR(50) NOT NULL,
+    payment_status VARCHAR(20) DEFAULT 'PENDING' CHECK(payment_status IN ('PENDING', 'COMPLETED', 'FAILED')),
+    created_at INTEGER NOT NULL DEFAULT (CAST(unixepoch('now', 'subsec') * 1000 AS INTEGER)),
+    FOREIGN KEY (cart_id) REFERENCES Cart(cart_id)
+) WITHOUT ROWID;
+
+INSERT INTO Users_new (user_id, username, password, role, email, created_at)
+SELECT user_id, username, password, role, email,
+       CASE
+           WHEN typeof(created_at) IN ('integer', 'real') THEN CAST(created_at AS INTEGER)
+           WHEN created_at <> '' AND created_at NOT GLOB '*[^0-9]*' THEN CAST(created_at AS INTEGER)
+           ELSE CAST(round(coalesce(
+               CASE
+                   WHEN created_at GLOB '*:[0-9][0-9]*[+-][0-9][0-9]' THEN unixepoch(created_at || ':00', 'subsec')
+                   ELSE unixepoch(created_at, 'utc', 'subsec')
+               END,
+               unixepoch('now', 'subsec')) * 1000) AS INTEGER)
+       END
+FROM Users;
+
+INSERT INTO Orders_new (order_id, user_id, total_price, status, created_at)
+SELECT order_id, user_id, total_price, status,
+       CASE
+           WHEN typeof(created_at) IN ('integer', 'real') THEN CAST(created_at AS INTEGER)
+           WHEN created_at <> '' AND created_at NOT GLOB '*[^0-9]*' THEN CAST(created_at AS INTEGER)
+           ELSE CAST(round(coalesce(
+               CASE
+                   WHEN created_at GLOB '*:[0-9][0-9]*[+-][0-9][0-9]' THEN unixepoch(created_at || ':00', 'subsec')
+                   ELSE unixepoch(created_at, 'utc', 'subsec')
+               END,
+               unixepoch('now', 'subsec')) * 1000) AS INTEGER)
+       END
+FROM Orders;
+
+INSERT INTO Payments_new (id, cart_id, payment_method, payment_status, created_at)
+SELECT id, cart_id, payment_method, payment_status,
+       CASE
+           WHEN typeof(created_at) IN ('integer', 'real') THEN CAST(created_at AS INTEGER)
+           WHEN created_at <> '' AND created_at NOT GLOB '*[^0-9]*' THEN CAST(created_at AS INTEGER)
+           ELSE CAST(round(coalesce(
+               CASE
+                   WHEN created_at GLOB '*:[0-9][0-9]*[+-][0-9][0-9]' THEN unixepoch(created_at || ':00', 'subsec')
+                   ELSE unixepoch(created_at, 'utc', 'subsec')
+               END,
+               unixepoch('now', 'subsec')) * 1000) AS INTEGER)
+       END
+FROM Payments;
+
+DROP TABLE Payments;
+DROP TABLE Orders;
+DROP TABLE Users;
+
+ALTER TABLE Users_new RENAME TO Users;
+ALTER TABLE Orders_new RENAME TO Orders;
+ALTER TABLE Payments_new RENAME TO Payments;
+
+-- Ті самі індекси, що й раніше, тепер над числами: фільтр за періодом - діапазон індексу
+CREATE INDEX idx_orders_user_id_created_at ON Orders(user_id, created_at);
+CREATE INDEX idx_orders_created_at ON Orders(created_at, order_id);
+CREATE INDEX idx_orders_status_created_at ON Orders(status, created_at, order_id);
+CREATE INDEX idx_payments_created_at ON Payments(created_at);
+
+ANALYZE;